@@ -0,0 +1,29 @@
+package cn.idev.excel.benchmark;
+
+import cn.idev.excel.annotation.ExcelProperty;
+import java.util.Date;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Row used by the benchmarks, one column of each common type.
+ *
+ *
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class BenchmarkData {
+    @ExcelProperty("String")
+    private String string;
+
+    @ExcelProperty("Date")
+    private Date date;
+
+    @ExcelProperty("Double")
+    private Double doubleData;
+
+    @ExcelProperty("Integer")
+    private Integer integerData;
+}
@@ -0,0 +1,92 @@
+package cn.idev.excel.benchmark;
+
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.support.ExcelTypeEnum;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Generate the files read by the benchmarks.
+ *
+ *
+ */
+public class BenchmarkFixtures {
+    /**
+     * Number of distinct strings, so that the shared strings are really shared
+     */
+    private static final int DISTINCT_STRING_COUNT = 1000;
+
+    private BenchmarkFixtures() {}
+
+    public static File createTempDirectory() {
+        try {
+            return Files.createTempDirectory("fastexcel-benchmark").toFile();
+        } catch (IOException e) {
+            throw new IllegalStateException("Can not create the benchmark directory", e);
+        }
+    }
+
+    public static void delete(File file) {
+        if (file == null || !file.exists()) {
+            return;
+        }
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    public static List<BenchmarkData> data(int rows) {
+        List<BenchmarkData> list = new ArrayList<>(rows);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < rows; i++) {
+            BenchmarkData data = new BenchmarkData();
+            data.setString("String" + (i % DISTINCT_STRING_COUNT));
+            data.setDate(new Date(now - i * 1000L));
+            data.setDoubleData(i + 0.56);
+            data.setIntegerData(i);
+            list.add(data);
+        }
+        return list;
+    }
+
+    /**
+     * Write a xlsx file with shared strings, like the files saved by excel.
+     */
+    public static File xlsx(File directory, int rows) {
+        File file = new File(directory, "read" + rows + ".xlsx");
+        FastExcel.write(file, BenchmarkData.class).inMemory(Boolean.TRUE).sheet().doWrite(data(rows));
+        return file;
+    }
+
+    public static File csv(File directory, int rows) {
+        File file = new File(directory, "read" + rows + ".csv");
+        FastExcel.write(file, BenchmarkData.class)
+                .excelType(ExcelTypeEnum.CSV)
+                .sheet()
+                .doWrite(data(rows));
+        return file;
+    }
+
+    /**
+     * Write a template with one row of placeholders, filled with a list.
+     */
+    public static File fillTemplate(File directory) {
+        File file = new File(directory, "template.xlsx");
+        List<List<String>> templateRows = Collections.singletonList(
+                Arrays.asList("{.string}", "{.date}", "{.doubleData}", "{.integerData}"));
+        FastExcel.write(file).sheet().doWrite(templateRows);
+        return file;
+    }
+}
@@ -0,0 +1,72 @@
+package cn.idev.excel.benchmark;
+
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.benchmark.XlsxReadBenchmark.BlackholeReadListener;
+import cn.idev.excel.support.ExcelTypeEnum;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Read and write csv.
+ *
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CsvBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private File directory;
+    private File file;
+    private List<BenchmarkData> data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        directory = BenchmarkFixtures.createTempDirectory();
+        file = BenchmarkFixtures.csv(directory, rows);
+        data = BenchmarkFixtures.data(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.delete(directory);
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        FastExcel.read(file, BenchmarkData.class, new BlackholeReadListener<BenchmarkData>(blackhole))
+                .sheet()
+                .doRead();
+    }
+
+    @Benchmark
+    public File write() {
+        File writeFile = new File(directory, "write.csv");
+        FastExcel.write(writeFile, BenchmarkData.class)
+                .excelType(ExcelTypeEnum.CSV)
+                .sheet()
+                .doWrite(data);
+        return writeFile;
+    }
+}
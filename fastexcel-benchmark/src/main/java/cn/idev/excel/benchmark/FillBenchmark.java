@@ -0,0 +1,59 @@
+package cn.idev.excel.benchmark;
+
+import cn.idev.excel.FastExcel;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fill a list into a template, through {@link cn.idev.excel.write.executor.ExcelWriteFillExecutor}.
+ *
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FillBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private File directory;
+    private File template;
+    private List<BenchmarkData> data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        directory = BenchmarkFixtures.createTempDirectory();
+        template = BenchmarkFixtures.fillTemplate(directory);
+        data = BenchmarkFixtures.data(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.delete(directory);
+    }
+
+    @Benchmark
+    public File fill() {
+        File file = new File(directory, "fill.xlsx");
+        FastExcel.write(file).withTemplate(template).sheet().doFill(data);
+        return file;
+    }
+}
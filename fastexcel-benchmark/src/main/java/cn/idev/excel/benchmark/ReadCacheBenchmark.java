@@ -0,0 +1,82 @@
+package cn.idev.excel.benchmark;
+
+import cn.idev.excel.cache.Ehcache;
+import cn.idev.excel.cache.MapCache;
+import cn.idev.excel.cache.MappedFileCache;
+import cn.idev.excel.cache.ReadCache;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Look up the shared strings in each {@link ReadCache}, the keys are read in order like the cells of a sheet.
+ *
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ReadCacheBenchmark {
+    /**
+     * Same as the default of {@link cn.idev.excel.cache.selector.SimpleReadCacheSelector}
+     */
+    private static final int MAX_CACHE_ACTIVATE_BATCH_COUNT = 20;
+
+    @Param({"MAP", "EHCACHE", "MAPPED_FILE"})
+    private String cacheType;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private ReadCache readCache;
+    private int key;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (cacheType) {
+            case "MAP":
+                readCache = new MapCache();
+                break;
+            case "EHCACHE":
+                readCache = new Ehcache(null, MAX_CACHE_ACTIVATE_BATCH_COUNT);
+                break;
+            case "MAPPED_FILE":
+                readCache = new MappedFileCache();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown cache type:" + cacheType);
+        }
+        readCache.init(null);
+        for (int i = 0; i < size; i++) {
+            readCache.put("SharedString" + i);
+        }
+        readCache.putFinished();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        readCache.destroy();
+    }
+
+    @Benchmark
+    public String get() {
+        if (++key >= size) {
+            key = 0;
+        }
+        return readCache.get(key);
+    }
+}
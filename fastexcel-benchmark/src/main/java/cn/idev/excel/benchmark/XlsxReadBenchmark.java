@@ -0,0 +1,89 @@
+package cn.idev.excel.benchmark;
+
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.enums.XmlParserTypeEnum;
+import cn.idev.excel.read.listener.ReadListener;
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Read xlsx into objects through {@link cn.idev.excel.read.listener.ModelBuildEventListener} and into maps.
+ *
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class XlsxReadBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    @Param({"SAX", "STAX"})
+    private XmlParserTypeEnum xmlParserType;
+
+    private File directory;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        directory = BenchmarkFixtures.createTempDirectory();
+        file = BenchmarkFixtures.xlsx(directory, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.delete(directory);
+    }
+
+    @Benchmark
+    public void readModel(Blackhole blackhole) {
+        FastExcel.read(file, BenchmarkData.class, new BlackholeReadListener<BenchmarkData>(blackhole))
+                .xmlParserType(xmlParserType)
+                .sheet()
+                .doRead();
+    }
+
+    @Benchmark
+    public void readNoModel(Blackhole blackhole) {
+        FastExcel.read(file, new BlackholeReadListener<Map<Integer, String>>(blackhole))
+                .xmlParserType(xmlParserType)
+                .sheet()
+                .doRead();
+    }
+
+    static class BlackholeReadListener<T> implements ReadListener<T> {
+        private final Blackhole blackhole;
+
+        BlackholeReadListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void invoke(T data, AnalysisContext context) {
+            blackhole.consume(data);
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {}
+    }
+}
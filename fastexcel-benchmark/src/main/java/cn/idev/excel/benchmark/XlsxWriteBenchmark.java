@@ -0,0 +1,57 @@
+package cn.idev.excel.benchmark;
+
+import cn.idev.excel.FastExcel;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Write objects to xlsx, through {@link cn.idev.excel.write.executor.ExcelWriteAddExecutor} and the streaming workbook.
+ *
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class XlsxWriteBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private File directory;
+    private List<BenchmarkData> data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        directory = BenchmarkFixtures.createTempDirectory();
+        data = BenchmarkFixtures.data(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.delete(directory);
+    }
+
+    @Benchmark
+    public File write() {
+        File file = new File(directory, "write.xlsx");
+        FastExcel.write(file, BenchmarkData.class).sheet().doWrite(data);
+        return file;
+    }
+}
@@ -0,0 +1,220 @@
+package cn.idev.excel;
+
+import cn.idev.excel.exception.ExcelGenerateException;
+import cn.idev.excel.write.metadata.WriteSheet;
+import cn.idev.excel.write.metadata.WriteTable;
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write several sheets that are fed from different threads.
+ * <p>
+ * Every sheet gets its own {@link SheetWriter}, which can be used from any thread. The data is handed over through a
+ * bounded queue to a single writing thread, so the producers of the sheets run at the same time while the workbook,
+ * which is not thread safe, is only touched by one thread. A producer blocks when {@code capacity} writes are waiting.
+ * <p>
+ * A collection must not be changed after it is handed to {@link SheetWriter#write}. The first exception of the writing
+ * thread is thrown from the next write or from {@link #close()}, and the following writes are dropped.
+ * {@link #close()} waits for all the writes and finishes the excel writer, interrupting it drops the writes that are
+ * still waiting.
+ * <p>
+ * It must always be closed, best with try-with-resources: the writing thread only stops on {@link #close()}, until then
+ * it keeps waiting for writes and the excel writer is never finished.
+ *
+ *
+ */
+public class ConcurrentExcelWriter implements Closeable {
+    /**
+     * Default number of writes waiting in the queue
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    /**
+     * Put after the last write
+     */
+    private static final WriteTask END = new WriteTask(null, null, null);
+
+    private final ExcelWriter excelWriter;
+
+    private final BlockingQueue<WriteTask> queue;
+
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private final Thread writerThread;
+    /**
+     * The writes hold the read lock while handing over the data, so none is put after {@link #END}
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private volatile boolean closed;
+
+    public ConcurrentExcelWriter(ExcelWriter excelWriter) {
+        this(excelWriter, DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentExcelWriter(ExcelWriter excelWriter, int capacity) {
+        this.excelWriter = excelWriter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writerThread = new Thread(this::writeAll, "fastexcel-sheet-writer-" + THREAD_NUMBER.incrementAndGet());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Get a writer of the sheet. The sheet is created right away, so the sheets are in the order of this call.
+     *
+     * @param writeSheet sheet
+     * @return sheet writer
+     */
+    public SheetWriter sheet(WriteSheet writeSheet) {
+        SheetWriter sheetWriter = new SheetWriter(writeSheet);
+        sheetWriter.write(Collections.emptyList());
+        return sheetWriter;
+    }
+
+    /**
+     * Wait for all the writes and finish the excel writer. If interrupted, the writes still waiting are dropped, and
+     * the excel writer is finished once the writing thread is stopped.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        boolean interrupted = false;
+        try {
+            queue.put(END);
+        } catch (InterruptedException e) {
+            interrupted = true;
+            writerThread.interrupt();
+        }
+        // The workbook is not thread safe, it is only finished once the writing thread no longer touches it
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                writerThread.interrupt();
+            }
+        }
+        excelWriter.finish();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            throw new ExcelGenerateException("Interrupted while waiting for the sheets to be written.");
+        }
+        checkError();
+    }
+
+    private void writeAll() {
+        while (true) {
+            WriteTask writeTask;
+            try {
+                writeTask = queue.take();
+            } catch (InterruptedException e) {
+                error.compareAndSet(null, e);
+                return;
+            }
+            if (writeTask == END || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (error.get() != null) {
+                continue;
+            }
+            try {
+                excelWriter.write(writeTask.data, writeTask.writeSheet, writeTask.writeTable);
+            } catch (Throwable e) {
+                error.compareAndSet(null, e);
+            }
+        }
+    }
+
+    private void submit(WriteTask writeTask) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new ExcelGenerateException("The writer is closed.");
+            }
+            checkError();
+            queue.put(writeTask);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelGenerateException("Interrupted while handing over the data.", e);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private void checkError() {
+        Throwable throwable = error.get();
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        if (throwable != null) {
+            throw new ExcelGenerateException(throwable);
+        }
+    }
+
+    /**
+     * Writer of one sheet, can be used from any thread.
+     */
+    public class SheetWriter {
+        private final WriteSheet writeSheet;
+
+        private SheetWriter(WriteSheet writeSheet) {
+            this.writeSheet = writeSheet;
+        }
+
+        /**
+         * Write data to the sheet
+         *
+         * @param data Data to be written
+         * @return this
+         */
+        public SheetWriter write(Collection<?> data) {
+            return write(data, null);
+        }
+
+        /**
+         * Write data to a table of the sheet
+         *
+         * @param data       Data to be written
+         * @param writeTable Write to this table
+         * @return this
+         */
+        public SheetWriter write(Collection<?> data, WriteTable writeTable) {
+            submit(new WriteTask(data, writeSheet, writeTable));
+            return this;
+        }
+    }
+
+    private static class WriteTask {
+        private final Collection<?> data;
+
+        private final WriteSheet writeSheet;
+
+        private final WriteTable writeTable;
+
+        private WriteTask(Collection<?> data, WriteSheet writeSheet, WriteTable writeTable) {
+            this.data = data;
+            this.writeSheet = writeSheet;
+            this.writeTable = writeTable;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package cn.idev.excel;
 import cn.idev.excel.context.WriteContext;
 import cn.idev.excel.write.ExcelBuilder;
 import cn.idev.excel.write.ExcelBuilderImpl;
+import cn.idev.excel.write.metadata.ColumnBatch;
 import cn.idev.excel.write.metadata.WriteSheet;
 import cn.idev.excel.write.metadata.WriteTable;
 import cn.idev.excel.write.metadata.WriteWorkbook;
@@ -84,6 +85,30 @@ public class ExcelWriter implements Closeable {
         return this;
     }
 
+    /**
+     * Write data stored by columns to a sheet, the numbers are written without boxing and converters.
+     *
+     * @param columnBatch Data to be written
+     * @param writeSheet  Write to this sheet
+     * @return this current writer
+     */
+    public ExcelWriter writeColumns(ColumnBatch columnBatch, WriteSheet writeSheet) {
+        return writeColumns(columnBatch, writeSheet, null);
+    }
+
+    /**
+     * Write data stored by columns to a sheet, the numbers are written without boxing and converters.
+     *
+     * @param columnBatch Data to be written
+     * @param writeSheet  Write to this sheet
+     * @param writeTable  Write to this table
+     * @return this
+     */
+    public ExcelWriter writeColumns(ColumnBatch columnBatch, WriteSheet writeSheet, WriteTable writeTable) {
+        excelBuilder.addColumns(columnBatch, writeSheet, writeTable);
+        return this;
+    }
+
     /**
      * Fill value to a sheet
      *
@@ -111,18 +111,25 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
                 // So in encrypted excel, it looks like XLS but it's actually XLSX
                 if (poifsFileSystem.getRoot().hasEntry(Decryptor.DEFAULT_POIFS_ENTRY)) {
                     InputStream decryptedStream = null;
+                    XlsxReadContext xlsxReadContext = null;
                     try {
                         // Decrypt the Excel file and treat it as XLSX for processing
                         decryptedStream = DocumentFactoryHelper.getDecryptedStream(
                                 poifsFileSystem.getRoot().getFileSystem(), readWorkbook.getPassword());
-                        XlsxReadContext xlsxReadContext = new DefaultXlsxReadContext(readWorkbook, ExcelTypeEnum.XLSX);
+                        xlsxReadContext = new DefaultXlsxReadContext(readWorkbook, ExcelTypeEnum.XLSX);
                         analysisContext = xlsxReadContext;
                         excelReadExecutor = new XlsxSaxAnalyser(xlsxReadContext, decryptedStream);
                         return;
                     } finally {
-                        // Close the decrypted stream and POIFSFileSystem to prevent resource leaks
-                        IOUtils.closeQuietly(decryptedStream);
-                        poifsFileSystem.close();
+                        if (xlsxReadContext != null
+                                && xlsxReadContext.xlsxReadWorkbookHolder().getDecryptedInputStream() != null) {
+                            // The package is decrypted while it is read, both are closed when finished
+                            xlsxReadContext.xlsxReadWorkbookHolder().setPoifsFileSystem(poifsFileSystem);
+                        } else {
+                            // Close the decrypted stream and POIFSFileSystem to prevent resource leaks
+                            IOUtils.closeQuietly(decryptedStream);
+                            poifsFileSystem.close();
+                        }
                     }
                 }
                 // Set the user password for processing encrypted Excel files
@@ -219,6 +226,26 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
         } catch (Throwable t) {
             throwable = t;
         }
+        try {
+            if ((readWorkbookHolder instanceof XlsxReadWorkbookHolder)
+                    && ((XlsxReadWorkbookHolder) readWorkbookHolder).getDecryptedInputStream() != null) {
+                ((XlsxReadWorkbookHolder) readWorkbookHolder)
+                        .getDecryptedInputStream()
+                        .close();
+            }
+        } catch (Throwable t) {
+            throwable = t;
+        }
+        try {
+            if ((readWorkbookHolder instanceof XlsxReadWorkbookHolder)
+                    && ((XlsxReadWorkbookHolder) readWorkbookHolder).getPoifsFileSystem() != null) {
+                ((XlsxReadWorkbookHolder) readWorkbookHolder)
+                        .getPoifsFileSystem()
+                        .close();
+            }
+        } catch (Throwable t) {
+            throwable = t;
+        }
         try {
             if ((readWorkbookHolder instanceof XlsReadWorkbookHolder)
                     && ((XlsReadWorkbookHolder) readWorkbookHolder).getPoifsFileSystem() != null) {
@@ -62,14 +62,17 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
      */
     @Override
     public void execute() {
-        CSVParser csvParser;
-        try {
-            // Create a CSV parser instance
-            csvParser = csvParser();
-            // Store the CSV parser instance in the context for subsequent processing
-            csvReadContext.csvReadWorkbookHolder().setCsvParser(csvParser);
-        } catch (IOException e) {
-            throw new ExcelAnalysisException(e);
+        boolean parallel = parallel();
+        CSVParser csvParser = null;
+        if (!parallel) {
+            try {
+                // Create a CSV parser instance
+                csvParser = csvParser();
+                // Store the CSV parser instance in the context for subsequent processing
+                csvReadContext.csvReadWorkbookHolder().setCsvParser(csvParser);
+            } catch (IOException e) {
+                throw new ExcelAnalysisException(e);
+            }
         }
         // Iterate through each sheet in the sheet list
         for (ReadSheet readSheet : sheetList) {
@@ -83,12 +86,16 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
                 // Set the current sheet being processed in the context
                 csvReadContext.currentSheet(readSheet);
 
-                // Initialize the row index
-                int rowIndex = 0;
+                if (parallel) {
+                    readParallel();
+                } else {
+                    // Initialize the row index
+                    int rowIndex = 0;
 
-                for (CSVRecord record : csvParser) {
-                    // Process the current record, incrementing the row index after each processing
-                    dealRecord(record, rowIndex++);
+                    for (CSVRecord record : csvParser) {
+                        // Process the current record, incrementing the row index after each processing
+                        dealRecord(record, rowIndex++);
+                    }
                 }
             } catch (ExcelAnalysisStopSheetException e) {
                 if (log.isDebugEnabled()) {
@@ -114,6 +121,51 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
         }
     }
 
+    /**
+     * Whether the file is split into chunks parsed at the same time, see {@link ParallelCsvReader#support}.
+     */
+    private boolean parallel() {
+        CsvReadWorkbookHolder csvReadWorkbookHolder = csvReadContext.csvReadWorkbookHolder();
+        return csvReadWorkbookHolder.getCsvParallelism() > 1
+                && !csvReadWorkbookHolder.getMandatoryUseInputStream()
+                && csvReadWorkbookHolder.getFile() != null
+                && ParallelCsvReader.support(csvReadWorkbookHolder);
+    }
+
+    /**
+     * Parse the chunks of the file on a pool, the rows are dealt on this thread in the order of the file.
+     */
+    private void readParallel() {
+        CsvReadWorkbookHolder csvReadWorkbookHolder = csvReadContext.csvReadWorkbookHolder();
+        ByteOrderMarkEnum byteOrderMark = ByteOrderMarkEnum.valueOfByCharsetName(
+                csvReadWorkbookHolder.getCharset().name());
+        try (InputStream fileInputStream =
+                Files.newInputStream(csvReadWorkbookHolder.getFile().toPath())) {
+            InputStream inputStream = byteOrderMark == null
+                    ? fileInputStream
+                    : new BOMInputStream(fileInputStream, byteOrderMark.getByteOrderMark());
+            new ParallelCsvReader(inputStream, csvReadWorkbookHolder, ParallelCsvReader.DEFAULT_CHUNK_SIZE)
+                    .read(new ParallelCsvReader.RowConsumer() {
+                        private int rowIndex = 0;
+
+                        @Override
+                        public Map<Integer, Cell> buildCellMap(CSVRecord record) {
+                            return CsvExcelReadExecutor.this.buildCellMap(record, 0);
+                        }
+
+                        @Override
+                        public void dealCellMap(Map<Integer, Cell> cellMap) {
+                            for (Cell cell : cellMap.values()) {
+                                ((ReadCellData<?>) cell).setRowIndex(rowIndex);
+                            }
+                            CsvExcelReadExecutor.this.dealCellMap(cellMap, rowIndex++);
+                        }
+                    });
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
     /**
      * Initializes and returns a CSVParser instance based on the configuration provided in the CsvReadContext.
      * This method determines the appropriate input stream and character set to create the CSV parser.
@@ -137,6 +189,11 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
 
         // If a file is provided in the configuration, build the CSV parser using the file's input stream.
         if (csvReadWorkbookHolder.getFile() != null) {
+            // The common charsets are decoded straight from a mapping of the file.
+            if (MappedFileReader.support(csvReadWorkbookHolder.getCharset())) {
+                return csvFormat.parse(
+                        new MappedFileReader(csvReadWorkbookHolder.getFile(), csvReadWorkbookHolder.getCharset()));
+            }
             return buildCsvParser(
                     csvFormat,
                     Files.newInputStream(csvReadWorkbookHolder.getFile().toPath()),
@@ -191,6 +248,17 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
      *                 8. Notifies the analysis event processor that the row processing has ended.
      */
     private void dealRecord(CSVRecord record, int rowIndex) {
+        dealCellMap(buildCellMap(record, rowIndex), rowIndex);
+    }
+
+    /**
+     * Build the cell data of a record, it only reads the configuration so it can be called by any thread.
+     *
+     * @param record   The CSV record to be processed.
+     * @param rowIndex The index of the current row being processed.
+     * @return cell map
+     */
+    private Map<Integer, Cell> buildCellMap(CSVRecord record, int rowIndex) {
         Map<Integer, Cell> cellMap = new LinkedHashMap<>();
         Iterator<String> cellIterator = record.iterator();
         int columnIndex = 0;
@@ -219,7 +287,16 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
             }
             cellMap.put(columnIndex++, readCellData);
         }
+        return cellMap;
+    }
 
+    /**
+     * Hand the row to the listeners.
+     *
+     * @param cellMap  cell map of the row
+     * @param rowIndex The index of the current row being processed.
+     */
+    private void dealCellMap(Map<Integer, Cell> cellMap, int rowIndex) {
         RowTypeEnum rowType = MapUtils.isEmpty(cellMap) ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
         ReadRowHolder readRowHolder = new ReadRowHolder(
                 rowIndex, rowType, csvReadContext.readWorkbookHolder().getGlobalConfiguration(), cellMap);
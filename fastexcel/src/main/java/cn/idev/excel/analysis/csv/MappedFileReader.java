@@ -0,0 +1,234 @@
+package cn.idev.excel.analysis.csv;
+
+import cn.idev.excel.util.FileUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read a file through a memory mapping, decoding the bytes to chars without a {@link java.nio.charset.CharsetDecoder}.
+ * <p>
+ * Only UTF-8, US-ASCII and ISO-8859-1 are decoded, where an ascii byte is a char. A malformed UTF-8 sequence is read as
+ * U+FFFD like {@link java.io.InputStreamReader} does, and a UTF-8 byte order mark at the start is skipped. The file is
+ * mapped by windows so a large file does not take a large part of the address space, and a window is unmapped as soon
+ * as it is left because a mapped file can not be deleted on windows.
+ *
+ *
+ */
+class MappedFileReader extends Reader {
+    /**
+     * Default size of a mapped window, unit byte.
+     */
+    private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+    /**
+     * The longest UTF-8 sequence
+     */
+    private static final int MAX_SEQUENCE_SIZE = 4;
+
+    private static final char REPLACEMENT = '\uFFFD';
+    private final FileChannel fileChannel;
+
+    private final long size;
+
+    private final boolean utf8;
+
+    private final boolean latin1;
+    /**
+     * Size of a mapped window, unit byte.
+     */
+    private final int windowSize;
+
+    private MappedByteBuffer buffer;
+    /**
+     * Position of the window in the file
+     */
+    private long windowPosition;
+    /**
+     * The low surrogate of a supplementary character that did not fit in the last read
+     */
+    private char pendingLowSurrogate;
+
+    MappedFileReader(File file, Charset charset) throws IOException {
+        this(file, charset, WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize size of a mapped window, at least the longest UTF-8 sequence
+     */
+    MappedFileReader(File file, Charset charset, int windowSize) throws IOException {
+        if (windowSize < MAX_SEQUENCE_SIZE) {
+            throw new IllegalArgumentException("The window size must be at least " + MAX_SEQUENCE_SIZE + ".");
+        }
+        this.windowSize = windowSize;
+        this.fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            this.size = fileChannel.size();
+            this.utf8 = StandardCharsets.UTF_8.equals(charset);
+            this.latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+            map(0);
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+        if (utf8
+                && buffer.remaining() >= 3
+                && buffer.get(0) == (byte) 0xEF
+                && buffer.get(1) == (byte) 0xBB
+                && buffer.get(2) == (byte) 0xBF) {
+            buffer.position(3);
+        }
+    }
+
+    /**
+     * Whether the charset is decoded by this reader.
+     *
+     * @param charset charset
+     * @return support
+     */
+    static boolean support(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        if (pendingLowSurrogate != 0) {
+            cbuf[off] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+            count++;
+        }
+        while (count < len) {
+            if (windowEnding()) {
+                map(windowPosition + buffer.position());
+            }
+            if (!buffer.hasRemaining()) {
+                break;
+            }
+            // Ascii
+            int position = buffer.position();
+            int end = position + Math.min(len - count, buffer.remaining());
+            while (position < end) {
+                byte b = buffer.get(position);
+                if (b < 0) {
+                    break;
+                }
+                cbuf[off + count++] = (char) b;
+                position++;
+            }
+            buffer.position(position);
+            if (count == len || !buffer.hasRemaining() || windowEnding()) {
+                continue;
+            }
+            int lead = buffer.get() & 0xFF;
+            if (latin1) {
+                cbuf[off + count++] = (char) lead;
+            } else if (!utf8) {
+                cbuf[off + count++] = REPLACEMENT;
+            } else {
+                count += decodeUtf8(lead, cbuf, off + count, len - count);
+            }
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    /**
+     * Decode the sequence started by a lead byte that is not ascii, the bytes that do not belong to it are not read.
+     *
+     * @return number of chars written
+     */
+    private int decodeUtf8(int lead, char[] cbuf, int off, int len) {
+        int continuationCount;
+        int codePoint;
+        int minSecond = 0x80;
+        int maxSecond = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            continuationCount = 1;
+            codePoint = lead & 0x1F;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            continuationCount = 2;
+            codePoint = lead & 0x0F;
+            if (lead == 0xE0) {
+                // Overlong
+                minSecond = 0xA0;
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            continuationCount = 3;
+            codePoint = lead & 0x07;
+            if (lead == 0xF0) {
+                // Overlong
+                minSecond = 0x90;
+            } else if (lead == 0xF4) {
+                // Beyond U+10FFFF
+                maxSecond = 0x8F;
+            }
+        } else {
+            cbuf[off] = REPLACEMENT;
+            return 1;
+        }
+        for (int i = 0; i < continuationCount; i++) {
+            if (!buffer.hasRemaining()) {
+                cbuf[off] = REPLACEMENT;
+                return 1;
+            }
+            int continuation = buffer.get(buffer.position()) & 0xFF;
+            int min = i == 0 ? minSecond : 0x80;
+            int max = i == 0 ? maxSecond : 0xBF;
+            if (continuation < min || continuation > max) {
+                cbuf[off] = REPLACEMENT;
+                return 1;
+            }
+            buffer.position(buffer.position() + 1);
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+        }
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            // A surrogate is malformed as a whole, the same as the decoder of the jdk
+            cbuf[off] = Character.isSurrogate((char) codePoint) ? REPLACEMENT : (char) codePoint;
+            return 1;
+        }
+        cbuf[off] = Character.highSurrogate(codePoint);
+        if (len > 1) {
+            cbuf[off + 1] = Character.lowSurrogate(codePoint);
+            return 2;
+        }
+        pendingLowSurrogate = Character.lowSurrogate(codePoint);
+        return 1;
+    }
+
+    /**
+     * A sequence may go on in the next window.
+     */
+    private boolean windowEnding() {
+        return buffer.remaining() < MAX_SEQUENCE_SIZE && windowPosition + buffer.limit() < size;
+    }
+
+    private void map(long position) throws IOException {
+        MappedByteBuffer lastBuffer = buffer;
+        buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+        windowPosition = position;
+        FileUtils.unmap(lastBuffer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        MappedByteBuffer lastBuffer = buffer;
+        buffer = null;
+        try {
+            fileChannel.close();
+        } finally {
+            FileUtils.unmap(lastBuffer);
+        }
+    }
+}
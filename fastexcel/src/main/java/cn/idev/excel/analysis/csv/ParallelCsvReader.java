@@ -0,0 +1,289 @@
+package cn.idev.excel.analysis.csv;
+
+import cn.idev.excel.exception.ExcelAnalysisException;
+import cn.idev.excel.metadata.Cell;
+import cn.idev.excel.read.metadata.holder.csv.CsvReadWorkbookHolder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * Read a csv file by splitting it into chunks that are parsed at the same time.
+ * <p>
+ * The file is split on the reading thread at the line breaks that end a record, following the quotes the same way as
+ * commons-csv. The chunks are parsed into cell maps on a pool, and the rows are handed to the listeners on the reading
+ * thread in the order of the file.
+ *
+ *
+ */
+class ParallelCsvReader {
+    /**
+     * Size of a chunk, a chunk grows when a single record is larger.unit byte.
+     */
+    static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final int STATE_FIELD_START = 0;
+    private static final int STATE_UNQUOTED = 1;
+    private static final int STATE_QUOTED = 2;
+    /**
+     * A quote in a quoted field, it either escapes the next quote or ends the field
+     */
+    private static final int STATE_QUOTE_IN_QUOTED = 3;
+
+    private final InputStream inputStream;
+    private final CSVFormat csvFormat;
+    private final Charset charset;
+    private final int parallelism;
+    private final int chunkSize;
+    private final byte delimiter;
+    /**
+     * -1 means there is no quote
+     */
+    private final int quote;
+
+    private final boolean ignoreSurroundingSpaces;
+
+    private byte[] buffer;
+
+    private int length;
+
+    private boolean eof;
+
+    ParallelCsvReader(InputStream inputStream, CsvReadWorkbookHolder csvReadWorkbookHolder, int chunkSize) {
+        this.inputStream = inputStream;
+        this.csvFormat = csvReadWorkbookHolder.getCsvFormat();
+        this.charset = csvReadWorkbookHolder.getCharset();
+        this.parallelism = csvReadWorkbookHolder.getCsvParallelism();
+        this.chunkSize = chunkSize;
+        this.delimiter = (byte) csvFormat.getDelimiterString().charAt(0);
+        this.quote = csvFormat.getQuoteCharacter() == null ? -1 : csvFormat.getQuoteCharacter();
+        this.ignoreSurroundingSpaces = csvFormat.getIgnoreSurroundingSpaces();
+    }
+
+    /**
+     * Whether the file can be split without parsing it.
+     * <p>
+     * The charset must never use the ascii bytes inside a multibyte character, and the format can not have an escape
+     * character, comments or a header record, because they change where a record ends.
+     *
+     * @param csvReadWorkbookHolder holder
+     * @return support
+     */
+    static boolean support(CsvReadWorkbookHolder csvReadWorkbookHolder) {
+        CSVFormat csvFormat = csvReadWorkbookHolder.getCsvFormat();
+        if (csvFormat.getEscapeCharacter() != null
+                || csvFormat.getCommentMarker() != null
+                || csvFormat.getHeader() != null
+                || csvFormat.getSkipHeaderRecord()
+                || csvFormat.getDelimiterString().length() != 1
+                || csvFormat.getDelimiterString().charAt(0) >= 0x80
+                || (csvFormat.getQuoteCharacter() != null && csvFormat.getQuoteCharacter() >= 0x80)) {
+            return false;
+        }
+        Charset charset = csvReadWorkbookHolder.getCharset();
+        String name = charset.name();
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.US_ASCII)
+                || name.startsWith("ISO-8859-")
+                || name.startsWith("windows-125");
+    }
+
+    /**
+     * Read all the rows.
+     *
+     * @param rowConsumer receive the cell maps of a chunk in the order of the file
+     * @throws IOException read the file failed
+     */
+    void read(RowConsumer rowConsumer) throws IOException {
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        Deque<Future<Chunk>> pendingChunks = new ArrayDeque<>();
+        buffer = new byte[chunkSize];
+        length = 0;
+        eof = false;
+        try {
+            ByteArrayInputStream chunkInputStream;
+            while ((chunkInputStream = nextChunk()) != null) {
+                ByteArrayInputStream currentChunkInputStream = chunkInputStream;
+                pendingChunks.add(executorService.submit(() -> parse(currentChunkInputStream, rowConsumer)));
+                // Bound the memory to a few chunks per thread
+                if (pendingChunks.size() >= parallelism * 2) {
+                    dispatch(pendingChunks.poll(), rowConsumer);
+                }
+            }
+            while (!pendingChunks.isEmpty()) {
+                dispatch(pendingChunks.poll(), rowConsumer);
+            }
+        } finally {
+            for (Future<Chunk> pendingChunk : pendingChunks) {
+                pendingChunk.cancel(true);
+            }
+            executorService.shutdownNow();
+            buffer = null;
+        }
+    }
+
+    private Chunk parse(InputStream chunkInputStream, RowConsumer rowConsumer) {
+        List<Map<Integer, Cell>> cellMapList = new ArrayList<>();
+        try (CSVParser csvParser = csvFormat.parse(new InputStreamReader(chunkInputStream, charset))) {
+            for (CSVRecord record : csvParser) {
+                cellMapList.add(rowConsumer.buildCellMap(record));
+            }
+        } catch (UncheckedIOException e) {
+            return new Chunk(cellMapList, e);
+        } catch (IOException e) {
+            return new Chunk(cellMapList, new UncheckedIOException(e));
+        }
+        return new Chunk(cellMapList, null);
+    }
+
+    private void dispatch(Future<Chunk> future, RowConsumer rowConsumer) {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while parsing the csv file.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ExcelAnalysisException(e.getCause());
+        }
+        for (Map<Integer, Cell> cellMap : chunk.cellMapList) {
+            rowConsumer.dealCellMap(cellMap);
+        }
+        // Same as the sequential read, the rows before the error are read
+        if (chunk.exception != null) {
+            throw chunk.exception;
+        }
+    }
+
+    /**
+     * Read the next chunk ending at a record boundary.
+     *
+     * @return chunk, null at the end of the file
+     */
+    private ByteArrayInputStream nextChunk() throws IOException {
+        while (true) {
+            while (!eof && length < buffer.length) {
+                int read = inputStream.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    length += read;
+                }
+            }
+            if (length == 0) {
+                return null;
+            }
+            int boundary = eof ? length : lastRecordBoundary();
+            if (boundary > 0) {
+                ByteArrayInputStream chunkInputStream = new ByteArrayInputStream(buffer, 0, boundary);
+                byte[] nextBuffer = new byte[Math.max(chunkSize, length - boundary)];
+                System.arraycopy(buffer, boundary, nextBuffer, 0, length - boundary);
+                buffer = nextBuffer;
+                length -= boundary;
+                return chunkInputStream;
+            }
+            // A record is larger than the buffer
+            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        }
+    }
+
+    /**
+     * Scan the buffer from a record start.
+     *
+     * @return the position after the last line break ending a record, 0 if not found
+     */
+    private int lastRecordBoundary() {
+        int state = STATE_FIELD_START;
+        int boundary = 0;
+        // The last byte is not scanned, a carriage return may be followed by a line feed in the next read
+        int end = length - 1;
+        for (int i = 0; i < end; i++) {
+            int b = buffer[i];
+            if (state == STATE_QUOTED) {
+                if (b == quote) {
+                    state = STATE_QUOTE_IN_QUOTED;
+                }
+                continue;
+            }
+            if (b == '\n' || (b == '\r' && buffer[i + 1] != '\n')) {
+                state = STATE_FIELD_START;
+                boundary = i + 1;
+                continue;
+            }
+            if (b == delimiter) {
+                state = STATE_FIELD_START;
+                continue;
+            }
+            switch (state) {
+                case STATE_FIELD_START:
+                    if (b == quote) {
+                        state = STATE_QUOTED;
+                    } else if (!(ignoreSurroundingSpaces && (b == ' ' || b == '\t'))) {
+                        state = STATE_UNQUOTED;
+                    }
+                    break;
+                case STATE_QUOTE_IN_QUOTED:
+                    if (b == quote) {
+                        state = STATE_QUOTED;
+                    } else if (!(b == ' ' || b == '\t' || b == '\r')) {
+                        state = STATE_UNQUOTED;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return boundary;
+    }
+
+    /**
+     * Build the cell maps on the pool and hand them to the listeners on the reading thread.
+     */
+    interface RowConsumer {
+        /**
+         * Build the cell map of a record, called on the pool.
+         *
+         * @param record record
+         * @return cell map without the row index
+         */
+        Map<Integer, Cell> buildCellMap(CSVRecord record);
+
+        /**
+         * Hand a row to the listeners, called on the reading thread in the order of the file.
+         *
+         * @param cellMap cell map
+         */
+        void dealCellMap(Map<Integer, Cell> cellMap);
+    }
+
+    private static class Chunk {
+        private final List<Map<Integer, Cell>> cellMapList;
+
+        private final UncheckedIOException exception;
+
+        private Chunk(List<Map<Integer, Cell>> cellMapList, UncheckedIOException exception) {
+            this.cellMapList = cellMapList;
+            this.exception = exception;
+        }
+    }
+}
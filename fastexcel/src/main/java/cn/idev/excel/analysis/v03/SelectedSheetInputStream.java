@@ -0,0 +1,207 @@
+package cn.idev.excel.analysis.v03;
+
+import cn.idev.excel.analysis.v03.XlsWorkbookGlobals.SheetPosition;
+import cn.idev.excel.context.xls.XlsReadContext;
+import cn.idev.excel.read.metadata.ReadSheet;
+import cn.idev.excel.util.SheetUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.DocumentInputStream;
+
+/**
+ * The workbook stream of a xls file without the parts that are not read.
+ * <p>
+ * A sheet that is not read is replaced by an empty sheet, a BOF record followed by an EOF record, so the sheets are
+ * numbered the same as in the whole stream while the skipped records are never decoded. The workbook globals that are
+ * already read are replaced by empty globals the same way, and the stream ends after the last sheet that is read.
+ *
+ *
+ */
+class SelectedSheetInputStream extends InputStream {
+    /**
+     * BOF record of an empty worksheet followed by an EOF record
+     */
+    private static final byte[] EMPTY_SHEET = {
+        0x09, 0x08, 0x10, 0x00, 0x00, 0x06, 0x10, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x06, 0x00,
+        0x00, 0x00, 0x0A, 0x00, 0x00, 0x00
+    };
+    /**
+     * BOF record of the workbook globals followed by an EOF record
+     */
+    private static final byte[] EMPTY_GLOBALS = {
+        0x09, 0x08, 0x10, 0x00, 0x00, 0x06, 0x05, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x06, 0x00,
+        0x00, 0x00, 0x0A, 0x00, 0x00, 0x00
+    };
+
+    private final DocumentInputStream inputStream;
+    /**
+     * The ranges that are replaced, in the order of the stream
+     */
+    private final List<SkipRange> skipRangeList;
+
+    private final byte[] skipBuffer = new byte[XlsWorkbookGlobals.MAX_RECORD_SIZE];
+
+    private long position;
+
+    private int skipIndex;
+
+    private byte[] replacement;
+
+    private int replacementOffset;
+
+    private boolean end;
+
+    private SelectedSheetInputStream(DocumentInputStream inputStream, List<SkipRange> skipRangeList) {
+        this.inputStream = inputStream;
+        this.skipRangeList = skipRangeList;
+    }
+
+    /**
+     * Open the workbook globals only.
+     *
+     * @param root               root of the file system
+     * @param xlsWorkbookGlobals layout of the workbook stream
+     * @return stream
+     * @throws IOException open the stream failed
+     */
+    static InputStream globals(DirectoryNode root, XlsWorkbookGlobals xlsWorkbookGlobals) throws IOException {
+        List<SkipRange> skipRangeList = new ArrayList<>();
+        skipRangeList.add(new SkipRange(xlsWorkbookGlobals.getGlobalsEnd(), Long.MAX_VALUE, null));
+        return new SelectedSheetInputStream(
+                root.createDocumentInputStream(xlsWorkbookGlobals.getWorkbookName()), skipRangeList);
+    }
+
+    /**
+     * Open the workbook stream without the parts that are not read.
+     *
+     * @param xlsReadContext     context
+     * @param xlsWorkbookGlobals layout of the workbook stream
+     * @param skipGlobals        the workbook globals are already read
+     * @return stream, null if the whole stream is read
+     * @throws IOException open the stream failed
+     */
+    static InputStream open(XlsReadContext xlsReadContext, XlsWorkbookGlobals xlsWorkbookGlobals, boolean skipGlobals)
+            throws IOException {
+        List<SheetPosition> sheetPositionList = xlsWorkbookGlobals.getSheetPositionList();
+        List<SkipRange> skipRangeList = new ArrayList<>();
+        if (skipGlobals) {
+            long end = sheetPositionList.isEmpty()
+                    ? xlsWorkbookGlobals.getSize()
+                    : sheetPositionList.get(0).getPosition();
+            skipRangeList.add(new SkipRange(0L, end, EMPTY_GLOBALS));
+        }
+        if (xlsWorkbookGlobals.isSheetSeekable() && !xlsReadContext.readWorkbookHolder().getReadAll()) {
+            boolean[] readSheets = new boolean[sheetPositionList.size()];
+            int lastReadIndex = -1;
+            for (int i = 0; i < sheetPositionList.size(); i++) {
+                SheetPosition sheetPosition = sheetPositionList.get(i);
+                ReadSheet readSheet = new ReadSheet(i, sheetPosition.getSheetName());
+                readSheet.setHidden(sheetPosition.isHidden());
+                readSheet.setVeryHidden(sheetPosition.isVeryHidden());
+                readSheets[i] = SheetUtils.match(readSheet, xlsReadContext) != null;
+                if (readSheets[i]) {
+                    lastReadIndex = i;
+                }
+            }
+            for (int i = 0; i < sheetPositionList.size(); i++) {
+                if (readSheets[i]) {
+                    continue;
+                }
+                long start = sheetPositionList.get(i).getPosition();
+                if (i > lastReadIndex) {
+                    // Nothing is read after it
+                    skipRangeList.add(new SkipRange(start, Long.MAX_VALUE, null));
+                    break;
+                }
+                skipRangeList.add(new SkipRange(start, sheetPositionList.get(i + 1).getPosition(), EMPTY_SHEET));
+            }
+        }
+        if (skipRangeList.isEmpty()) {
+            return null;
+        }
+        DirectoryNode root = xlsReadContext.xlsReadWorkbookHolder().getPoifsFileSystem().getRoot();
+        return new SelectedSheetInputStream(
+                root.createDocumentInputStream(xlsWorkbookGlobals.getWorkbookName()), skipRangeList);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (replacement != null && replacementOffset < replacement.length) {
+            int count = Math.min(len, replacement.length - replacementOffset);
+            System.arraycopy(replacement, replacementOffset, b, off, count);
+            replacementOffset += count;
+            return count;
+        }
+        if (end) {
+            return -1;
+        }
+        SkipRange skipRange = skipIndex < skipRangeList.size() ? skipRangeList.get(skipIndex) : null;
+        if (skipRange != null && position == skipRange.start) {
+            skipIndex++;
+            if (skipRange.end == Long.MAX_VALUE) {
+                end = true;
+                return -1;
+            }
+            skipRange(skipRange.end - position);
+            replacement = skipRange.replacement;
+            replacementOffset = 0;
+            return read(b, off, len);
+        }
+        int limit = len;
+        if (skipRange != null) {
+            limit = (int) Math.min(len, skipRange.start - position);
+        }
+        int count = inputStream.read(b, off, limit);
+        if (count > 0) {
+            position += count;
+        }
+        return count;
+    }
+
+    /**
+     * The document stream has no seek, the bytes are copied over without building the records.
+     */
+    private void skipRange(long length) {
+        while (length > 0) {
+            int count = (int) Math.min(length, skipBuffer.length);
+            inputStream.readFully(skipBuffer, 0, count);
+            length -= count;
+            position += count;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    private static class SkipRange {
+        private final long start;
+        /**
+         * {@link Long#MAX_VALUE} ends the stream
+         */
+        private final long end;
+        /**
+         * The bytes read instead, null for nothing
+         */
+        private final byte[] replacement;
+
+        private SkipRange(long start, long end, byte[] replacement) {
+            this.start = start;
+            this.end = end;
+            this.replacement = replacement;
+        }
+    }
+}
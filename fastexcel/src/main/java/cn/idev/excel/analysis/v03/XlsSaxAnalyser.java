@@ -28,6 +28,7 @@ import cn.idev.excel.exception.ExcelAnalysisStopSheetException;
 import cn.idev.excel.read.metadata.ReadSheet;
 import cn.idev.excel.read.metadata.holder.xls.XlsReadWorkbookHolder;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -105,6 +106,18 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         XLS_RECORD_HANDLER_MAP.put(DateWindow1904Record.sid, new DateWindow1904RecordHandler());
     }
 
+    /**
+     * Layout of the workbook stream, read once
+     */
+    private XlsWorkbookGlobals xlsWorkbookGlobals;
+
+    private boolean xlsWorkbookGlobalsLoaded;
+    /**
+     * The workbook globals are decoded into the workbook holder: the shared strings, the formats, the bound sheets and
+     * the 1904 windowing
+     */
+    private boolean globalsRead;
+
     /**
      * Constructor to initialize the XlsSaxAnalyser with the given context.
      *
@@ -117,14 +130,15 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
     /**
      * Retrieves the list of sheets in the workbook.
      * <p>
-     * If the sheet data list is not already loaded, it triggers the execution of a listener to load the data.
+     * If the sheet data list is not already loaded, only the workbook globals are read, and they are kept for reading
+     * the sheets afterwards.
      *
      * @return A list of ReadSheet objects representing the sheets in the workbook.
      */
     @Override
     public List<ReadSheet> sheetList() {
         try {
-            if (xlsReadContext.readWorkbookHolder().getActualSheetDataList() == null) {
+            if (xlsReadContext.readWorkbookHolder().getActualSheetDataList() == null && !readGlobals()) {
                 new XlsListSheetListener(xlsReadContext).execute();
             }
         } catch (ExcelAnalysisStopException e) {
@@ -150,17 +164,27 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
     @Override
     public void execute() {
         XlsReadWorkbookHolder xlsReadWorkbookHolder = xlsReadContext.xlsReadWorkbookHolder();
-        MissingRecordAwareHSSFListener listener = new MissingRecordAwareHSSFListener(this);
-        xlsReadWorkbookHolder.setFormatTrackingHSSFListener(new FormatTrackingHSSFListener(listener));
-        EventWorkbookBuilder.SheetRecordCollectingListener workbookBuildingListener =
-                new EventWorkbookBuilder.SheetRecordCollectingListener(
-                        xlsReadWorkbookHolder.getFormatTrackingHSSFListener());
-        xlsReadWorkbookHolder.setHssfWorkbook(workbookBuildingListener.getStubHSSFWorkbook());
+        XlsWorkbookGlobals xlsWorkbookGlobals = xlsWorkbookGlobals();
+        // The records after the file pass record can only be decrypted from the start of the stream
+        boolean skipGlobals = globalsRead && xlsWorkbookGlobals != null && !xlsWorkbookGlobals.isEncrypted();
+        if (!skipGlobals) {
+            initListener(xlsReadWorkbookHolder);
+        }
         HSSFEventFactory factory = new HSSFEventFactory();
         HSSFRequest request = new HSSFRequest();
         request.addListenerForAllRecords(xlsReadWorkbookHolder.getFormatTrackingHSSFListener());
         try {
-            factory.processWorkbookEvents(request, xlsReadWorkbookHolder.getPoifsFileSystem());
+            // Jump over the globals already read and the sheets that are not read
+            InputStream selectedSheetInputStream = xlsWorkbookGlobals == null
+                    ? null
+                    : SelectedSheetInputStream.open(xlsReadContext, xlsWorkbookGlobals, skipGlobals);
+            if (selectedSheetInputStream == null) {
+                factory.processWorkbookEvents(request, xlsReadWorkbookHolder.getPoifsFileSystem());
+            } else {
+                try (InputStream inputStream = selectedSheetInputStream) {
+                    factory.processEvents(request, inputStream);
+                }
+            }
         } catch (OldExcelFormatException e) {
             // POI reports very old BIFF (e.g., BIFF2) formats via OldExcelFormatException. Treat as benign:
             // stop current sheet gracefully and return without error so fuzz doesn't flag it.
@@ -180,11 +204,57 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         } catch (IOException e) {
             throw new ExcelAnalysisException(e);
         }
+        globalsRead = true;
 
         // There are some special xls that do not have the terminator "[EOF]", so an additional
         xlsReadContext.analysisEventProcessor().endSheet(xlsReadContext);
     }
 
+    /**
+     * Read the workbook globals only, the sheets are listed from the bound sheet records.
+     *
+     * @return false if the layout of the workbook stream is unknown
+     */
+    private boolean readGlobals() {
+        XlsWorkbookGlobals xlsWorkbookGlobals = xlsWorkbookGlobals();
+        if (xlsWorkbookGlobals == null) {
+            return false;
+        }
+        XlsReadWorkbookHolder xlsReadWorkbookHolder = xlsReadContext.xlsReadWorkbookHolder();
+        xlsReadWorkbookHolder.getBoundSheetRecordList().clear();
+        initListener(xlsReadWorkbookHolder);
+        HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(xlsReadWorkbookHolder.getFormatTrackingHSSFListener());
+        try (InputStream inputStream = SelectedSheetInputStream.globals(
+                xlsReadWorkbookHolder.getPoifsFileSystem().getRoot(), xlsWorkbookGlobals)) {
+            new HSSFEventFactory().processEvents(request, inputStream);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+        xlsReadWorkbookHolder.setActualSheetDataList(
+                BofRecordHandler.readSheetDataList(xlsReadWorkbookHolder.getBoundSheetRecordList()));
+        globalsRead = true;
+        return true;
+    }
+
+    private void initListener(XlsReadWorkbookHolder xlsReadWorkbookHolder) {
+        MissingRecordAwareHSSFListener listener = new MissingRecordAwareHSSFListener(this);
+        xlsReadWorkbookHolder.setFormatTrackingHSSFListener(new FormatTrackingHSSFListener(listener));
+        EventWorkbookBuilder.SheetRecordCollectingListener workbookBuildingListener =
+                new EventWorkbookBuilder.SheetRecordCollectingListener(
+                        xlsReadWorkbookHolder.getFormatTrackingHSSFListener());
+        xlsReadWorkbookHolder.setHssfWorkbook(workbookBuildingListener.getStubHSSFWorkbook());
+    }
+
+    private XlsWorkbookGlobals xlsWorkbookGlobals() {
+        if (!xlsWorkbookGlobalsLoaded) {
+            xlsWorkbookGlobals = XlsWorkbookGlobals.read(
+                    xlsReadContext.xlsReadWorkbookHolder().getPoifsFileSystem().getRoot());
+            xlsWorkbookGlobalsLoaded = true;
+        }
+        return xlsWorkbookGlobals;
+    }
+
     protected boolean isOldExcelFormat(Throwable t) {
         for (int i = 0; i < 6 && t != null; i++, t = t.getCause()) {
             if (t instanceof OldExcelFormatException) {
@@ -0,0 +1,176 @@
+package cn.idev.excel.analysis.v03;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FilePassRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.DocumentEntry;
+import org.apache.poi.poifs.filesystem.DocumentInputStream;
+
+/**
+ * Where the workbook globals and the sheets are in the workbook stream of a xls file.
+ * <p>
+ * Only the record headers and the bound sheet records of the workbook globals are read, the records themselves are
+ * decoded by the record listeners.
+ *
+ *
+ */
+@Getter(AccessLevel.PACKAGE)
+class XlsWorkbookGlobals {
+    /**
+     * The biggest record, header included
+     */
+    static final int MAX_RECORD_SIZE = 8228;
+
+    private static final int SHEET_TYPE_WORKSHEET = 0;
+    /**
+     * Name of the workbook stream
+     */
+    private final String workbookName;
+    /**
+     * Size of the workbook stream
+     */
+    private final long size;
+    /**
+     * Position after the EOF record of the workbook globals
+     */
+    private long globalsEnd;
+    /**
+     * The records after the file pass record are encrypted, the key depends on the position in the stream
+     */
+    private boolean encrypted;
+    /**
+     * Every bound sheet is a worksheet
+     */
+    private boolean worksheetsOnly = true;
+    /**
+     * The sheets in the order of the stream
+     */
+    private final List<SheetPosition> sheetPositionList = new ArrayList<>();
+
+    private XlsWorkbookGlobals(String workbookName, long size) {
+        this.workbookName = workbookName;
+        this.size = size;
+    }
+
+    /**
+     * Read the layout of the workbook stream.
+     *
+     * @param root root of the file system
+     * @return layout, null if the stream is not biff8 or the positions are not consistent
+     */
+    static XlsWorkbookGlobals read(DirectoryNode root) {
+        try {
+            String workbookName = HSSFWorkbook.getWorkbookDirEntryName(root);
+            XlsWorkbookGlobals xlsWorkbookGlobals =
+                    new XlsWorkbookGlobals(workbookName, ((DocumentEntry) root.getEntry(workbookName)).getSize());
+            try (DocumentInputStream inputStream = root.createDocumentInputStream(workbookName)) {
+                return xlsWorkbookGlobals.readGlobals(inputStream) ? xlsWorkbookGlobals : null;
+            }
+        } catch (IOException | RuntimeException e) {
+            // The whole stream is read, which reports the problem
+            return null;
+        }
+    }
+
+    private boolean readGlobals(DocumentInputStream inputStream) {
+        byte[] buffer = new byte[MAX_RECORD_SIZE];
+        long position = 0;
+        boolean first = true;
+        while (position + 4 <= size) {
+            int sid = inputStream.readUShort();
+            int length = inputStream.readUShort();
+            inputStream.readFully(buffer, 0, length);
+            position += 4 + length;
+            if (first) {
+                // Only biff8 is supported
+                if (sid != BOFRecord.sid || length < 4 || readUShort(buffer, 0) != BOFRecord.VERSION) {
+                    return false;
+                }
+                first = false;
+                continue;
+            }
+            if (sid == EOFRecord.sid) {
+                break;
+            }
+            if (sid == FilePassRecord.sid) {
+                encrypted = true;
+            } else if (sid == BoundSheetRecord.sid) {
+                if (length < 8) {
+                    return false;
+                }
+                sheetPositionList.add(readSheetPosition(buffer, length));
+            }
+        }
+        globalsEnd = position;
+        sheetPositionList.sort(Comparator.comparingLong(SheetPosition::getPosition));
+        long lastPosition = globalsEnd;
+        for (SheetPosition sheetPosition : sheetPositionList) {
+            if (sheetPosition.position < lastPosition || sheetPosition.position >= size) {
+                return false;
+            }
+            lastPosition = sheetPosition.position + 1;
+        }
+        return true;
+    }
+
+    /**
+     * The position of the sheet is never encrypted, the rest is only read from a file that is not encrypted.
+     */
+    private SheetPosition readSheetPosition(byte[] buffer, int length) {
+        SheetPosition sheetPosition = new SheetPosition();
+        sheetPosition.position = readUShort(buffer, 0) | ((long) readUShort(buffer, 2) << 16);
+        if (encrypted) {
+            return sheetPosition;
+        }
+        int optionFlags = readUShort(buffer, 4);
+        // Charts and macro sheets are numbered differently by the sheet reader
+        if ((optionFlags >> 8) != SHEET_TYPE_WORKSHEET) {
+            worksheetsOnly = false;
+        }
+        sheetPosition.hidden = (optionFlags & 0x01) != 0;
+        sheetPosition.veryHidden = (optionFlags & 0x02) != 0;
+        int nameLength = buffer[6] & 0xFF;
+        boolean multibyte = (buffer[7] & 0x01) != 0;
+        int nameBytes = Math.min(multibyte ? nameLength * 2 : nameLength, length - 8);
+        sheetPosition.sheetName = new String(
+                buffer, 8, nameBytes, multibyte ? StandardCharsets.UTF_16LE : StandardCharsets.ISO_8859_1);
+        return sheetPosition;
+    }
+
+    private static int readUShort(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xFF) | ((buffer[offset + 1] & 0xFF) << 8);
+    }
+
+    /**
+     * The sheets can be jumped over, the stream is not encrypted and the sheets are numbered the same way.
+     *
+     * @return seekable
+     */
+    boolean isSheetSeekable() {
+        return !encrypted && worksheetsOnly;
+    }
+
+    /**
+     * Position of a sheet in the workbook stream
+     */
+    @Getter(AccessLevel.PACKAGE)
+    static class SheetPosition {
+        private long position;
+
+        private String sheetName;
+
+        private boolean hidden;
+
+        private boolean veryHidden;
+    }
+}
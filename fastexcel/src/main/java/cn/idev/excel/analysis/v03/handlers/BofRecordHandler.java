@@ -55,8 +55,22 @@ public class BofRecordHandler extends AbstractXlsRecordHandler {
         if (xlsReadWorkbookHolder.getActualSheetDataList() != null) {
             return;
         }
-        BoundSheetRecord[] boundSheetRecords =
-                BoundSheetRecord.orderByBofPosition(xlsReadWorkbookHolder.getBoundSheetRecordList());
+        xlsReadWorkbookHolder.setActualSheetDataList(
+                readSheetDataList(xlsReadWorkbookHolder.getBoundSheetRecordList()));
+        // Just need to get the list of sheets
+        if (!xlsReadWorkbookHolder.getNeedReadSheet()) {
+            throw new ExcelAnalysisStopException("Just need to get the list of sheets.");
+        }
+    }
+
+    /**
+     * The sheets in the order of the workbook stream.
+     *
+     * @param boundSheetRecordList bound sheet records of the workbook globals
+     * @return sheets
+     */
+    public static List<ReadSheet> readSheetDataList(List<BoundSheetRecord> boundSheetRecordList) {
+        BoundSheetRecord[] boundSheetRecords = BoundSheetRecord.orderByBofPosition(boundSheetRecordList);
         List<ReadSheet> readSheetDataList = new ArrayList<>();
         for (int i = 0; i < boundSheetRecords.length; i++) {
             BoundSheetRecord boundSheetRecord = boundSheetRecords[i];
@@ -65,10 +79,6 @@ public class BofRecordHandler extends AbstractXlsRecordHandler {
             readSheet.setVeryHidden(boundSheetRecord.isVeryHidden());
             readSheetDataList.add(readSheet);
         }
-        xlsReadWorkbookHolder.setActualSheetDataList(readSheetDataList);
-        // Just need to get the list of sheets
-        if (!xlsReadWorkbookHolder.getNeedReadSheet()) {
-            throw new ExcelAnalysisStopException("Just need to get the list of sheets.");
-        }
+        return readSheetDataList;
     }
 }
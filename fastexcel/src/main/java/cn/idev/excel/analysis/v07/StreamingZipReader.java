@@ -0,0 +1,160 @@
+package cn.idev.excel.analysis.v07;
+
+import cn.idev.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import cn.idev.excel.util.FileUtils;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+
+/**
+ * Walk the parts of a xlsx read from a stream one after another, by the local file headers of the zip.
+ * <p>
+ * The stream is never copied as a whole, a part that is needed after the ones following it has to be spooled to a file
+ * while it is the current part. The zip written by poi has data descriptors of zip64 after the parts, which the zip
+ * stream of the jdk reads as 32 bits, so the zip is read by commons compress.
+ *
+ *
+ */
+class StreamingZipReader {
+    private final ZipArchiveInputStream zipInputStream;
+
+    private final XlsxReadWorkbookHolder xlsxReadWorkbookHolder;
+    /**
+     * The spooled parts, key: part name value: file
+     */
+    private final Map<String, File> spooledPartMap = new HashMap<>();
+
+    private ZipArchiveEntry zipEntry;
+
+    StreamingZipReader(InputStream inputStream, XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
+        this.zipInputStream = new ZipArchiveInputStream(inputStream, "UTF-8", true, true);
+        this.xlsxReadWorkbookHolder = xlsxReadWorkbookHolder;
+    }
+
+    /**
+     * Move to the next part, the rest of the current part is skipped.
+     *
+     * @return part name, null at the end of the zip
+     * @throws IOException read failed
+     */
+    String nextPart() throws IOException {
+        do {
+            zipEntry = zipInputStream.getNextZipEntry();
+        } while (zipEntry != null && zipEntry.isDirectory());
+        return zipEntry == null ? null : partName(zipEntry.getName());
+    }
+
+    /**
+     * The content of the current part, closing it does not close the zip.
+     *
+     * @return input stream
+     */
+    InputStream partInputStream() {
+        return new FilterInputStream(zipInputStream) {
+            @Override
+            public void close() {}
+        };
+    }
+
+    /**
+     * Uncompressed size of the current part.
+     *
+     * @return size, -1 if the local file header does not know it
+     */
+    long partSize() {
+        return zipEntry.getSize();
+    }
+
+    /**
+     * Copy the rest of the current part to a file.
+     */
+    void spool() {
+        if (xlsxReadWorkbookHolder.getTempFile() == null) {
+            xlsxReadWorkbookHolder.setTempFile(FileUtils.createCacheTmpFile());
+        }
+        File file = new File(xlsxReadWorkbookHolder.getTempFile(), UUID.randomUUID() + ".xml");
+        FileUtils.writeToFile(file, zipInputStream, false);
+        spooledPartMap.put(partName(zipEntry.getName()), file);
+    }
+
+    /**
+     * Size of a spooled part.
+     *
+     * @param partName part name
+     * @return size, -1 if the part is not spooled
+     */
+    long spooledSize(String partName) {
+        File file = spooledPartMap.get(partName);
+        return file == null ? -1L : file.length();
+    }
+
+    /**
+     * Open a spooled part, a part is only opened once.
+     *
+     * @param partName part name
+     * @return input stream, null if the part is not spooled
+     * @throws IOException open failed
+     */
+    InputStream openSpooled(String partName) throws IOException {
+        File file = spooledPartMap.remove(partName);
+        return file == null ? null : FileUtils.openInputStream(file);
+    }
+
+    /**
+     * The part names of the package are compared regardless of the case, the zip entry names have no leading slash.
+     *
+     * @param name name of the part or the zip entry
+     * @return part name
+     */
+    static String partName(String name) {
+        String partName = name.startsWith("/") ? name.substring(1) : name;
+        return partName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The part a relationship points to.
+     *
+     * @param sourcePartName part owning the relationship
+     * @param target         target of the relationship, relative to the folder of the source part unless it starts
+     *                       with a slash
+     * @return part name
+     */
+    static String resolve(String sourcePartName, String target) {
+        if (target.startsWith("/")) {
+            return partName(target);
+        }
+        Deque<String> segmentDeque = new ArrayDeque<>();
+        String[] sourceSegments = sourcePartName.split("/");
+        for (int i = 0; i < sourceSegments.length - 1; i++) {
+            segmentDeque.addLast(sourceSegments[i]);
+        }
+        for (String segment : target.split("/")) {
+            if ("..".equals(segment)) {
+                segmentDeque.pollLast();
+            } else if (!segment.isEmpty() && !".".equals(segment)) {
+                segmentDeque.addLast(segment);
+            }
+        }
+        return partName(String.join("/", segmentDeque));
+    }
+
+    /**
+     * The part holding the relationships of a part.
+     *
+     * @param partName part name
+     * @return part name of the relationships
+     */
+    static String relationshipsPartName(String partName) {
+        int index = partName.lastIndexOf('/');
+        return partName.substring(0, index + 1) + "_rels/" + partName.substring(index + 1) + ".rels";
+    }
+}
@@ -1,34 +1,57 @@
 package cn.idev.excel.analysis.v07;
 
 import cn.idev.excel.analysis.ExcelReadExecutor;
+import cn.idev.excel.analysis.v07.handlers.sax.AttributeMapHandler;
 import cn.idev.excel.analysis.v07.handlers.sax.SharedStringsTableHandler;
 import cn.idev.excel.analysis.v07.handlers.sax.XlsxRowHandler;
+import cn.idev.excel.analysis.v07.handlers.stax.ContentHandlerStaxReader;
+import cn.idev.excel.analysis.v07.handlers.stax.StaxReader;
+import cn.idev.excel.analysis.v07.handlers.stax.XlsxStaxRowReader;
 import cn.idev.excel.cache.ReadCache;
+import cn.idev.excel.cache.selector.ReadCacheSelector;
+import cn.idev.excel.cache.selector.SimpleReadCacheSelector;
+import cn.idev.excel.context.xlsx.DefaultXlsxReadContext;
 import cn.idev.excel.context.xlsx.XlsxReadContext;
 import cn.idev.excel.enums.CellExtraTypeEnum;
+import cn.idev.excel.enums.XmlParserTypeEnum;
 import cn.idev.excel.exception.ExcelAnalysisException;
 import cn.idev.excel.exception.ExcelAnalysisStopSheetException;
 import cn.idev.excel.exception.ExcelCommonException;
 import cn.idev.excel.metadata.CellExtra;
 import cn.idev.excel.read.metadata.ReadSheet;
 import cn.idev.excel.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import cn.idev.excel.util.ClassUtils;
+import cn.idev.excel.util.DateUtils;
 import cn.idev.excel.util.FileUtils;
+import cn.idev.excel.util.IoUtils;
 import cn.idev.excel.util.MapUtils;
+import cn.idev.excel.util.NumberDataFormatterUtils;
 import cn.idev.excel.util.SheetUtils;
 import cn.idev.excel.util.StringUtils;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.exceptions.NotOfficeXmlFileException;
@@ -42,7 +65,9 @@ import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.model.Comments;
 import org.apache.poi.xssf.model.CommentsTable;
+import org.apache.poi.xssf.model.StylesTable;
 import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTSheet;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
@@ -73,19 +98,79 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         }
     }
 
+    /**
+     * The first part of a package
+     */
+    private static final String CONTENT_TYPES_PART_NAME = "[content_types].xml";
+    /**
+     * The relationships of the package, the workbook is found by the content types instead
+     */
+    private static final String PACKAGE_RELATIONSHIPS_PART_NAME = "_rels/.rels";
+
+    private static final Set<String> WORKBOOK_CONTENT_TYPE_SET = new HashSet<>();
+
+    private static final Set<String> SHEET_CONTENT_TYPE_SET = new HashSet<>();
+
+    static {
+        WORKBOOK_CONTENT_TYPE_SET.add(XSSFRelation.WORKBOOK.getContentType());
+        WORKBOOK_CONTENT_TYPE_SET.add(XSSFRelation.MACROS_WORKBOOK.getContentType());
+        WORKBOOK_CONTENT_TYPE_SET.add(XSSFRelation.TEMPLATE_WORKBOOK.getContentType());
+        WORKBOOK_CONTENT_TYPE_SET.add(XSSFRelation.MACRO_TEMPLATE_WORKBOOK.getContentType());
+        SHEET_CONTENT_TYPE_SET.add(XSSFRelation.WORKSHEET.getContentType());
+        SHEET_CONTENT_TYPE_SET.add(XSSFRelation.CHARTSHEET.getContentType());
+    }
+
     private final XlsxReadContext xlsxReadContext;
     private final List<ReadSheet> sheetList;
     private final Map<Integer, InputStream> sheetMap;
+    /**
+     * The zip read part by part when streaming, null otherwise
+     */
+    private final StreamingZipReader streamingZipReader;
+    /**
+     * Part of each sheet when streaming, key: sheetNo value: part name
+     */
+    private final Map<Integer, String> sheetPartNameMap;
     private final Map<String, CTSheet> ctSheetMap;
     /**
      * excel comments key: sheetNo value: CommentsTable
      */
     private final Map<Integer, CommentsTable> commentsTableMap;
+    /**
+     * Shared by all the parts when pull parsing, a stream reader can not be reused for another input.
+     */
+    private final XMLInputFactory xmlInputFactory;
 
     public XlsxSaxAnalyser(XlsxReadContext xlsxReadContext, InputStream decryptedStream) throws Exception {
         this.xlsxReadContext = xlsxReadContext;
         // Initialize cache
         XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        if (xlsxReadWorkbookHolder.getXmlParserType() == XmlParserTypeEnum.STAX) {
+            xmlInputFactory = newXmlInputFactory();
+        } else {
+            xmlInputFactory = null;
+        }
+        sheetList = new ArrayList<>();
+        sheetMap = new HashMap<>();
+        commentsTableMap = new HashMap<>();
+        ctSheetMap = new HashMap<>();
+        sheetPartNameMap = new HashMap<>();
+        Map<Integer, PackageRelationshipCollection> packageRelationshipCollectionMap = MapUtils.newHashMap();
+        xlsxReadWorkbookHolder.setPackageRelationshipCollectionMap(packageRelationshipCollectionMap);
+
+        if (useStreamingZip(xlsxReadWorkbookHolder, decryptedStream)) {
+            if (decryptedStream != null) {
+                // Kept open until the read finishes
+                xlsxReadWorkbookHolder.setDecryptedInputStream(decryptedStream);
+                streamingZipReader = new StreamingZipReader(decryptedStream, xlsxReadWorkbookHolder);
+            } else {
+                streamingZipReader =
+                        new StreamingZipReader(xlsxReadWorkbookHolder.getInputStream(), xlsxReadWorkbookHolder);
+            }
+            readStreamingZip(xlsxReadWorkbookHolder);
+            return;
+        }
+        streamingZipReader = null;
 
         OPCPackage pkg = readOpcPackage(xlsxReadWorkbookHolder, decryptedStream);
         xlsxReadWorkbookHolder.setOpcPackage(pkg);
@@ -101,18 +186,13 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         }
 
         XSSFReader xssfReader = new XSSFReader(pkg);
-        analysisUse1904WindowDate(xssfReader, xlsxReadWorkbookHolder);
+        CTWorkbook wb = WorkbookDocument.Factory.parse(xssfReader.getWorkbookData()).getWorkbook();
+        analysisUse1904WindowDate(wb, xlsxReadWorkbookHolder);
         // set style table
         setStylesTable(xlsxReadWorkbookHolder, xssfReader);
 
-        sheetList = new ArrayList<>();
-        sheetMap = new HashMap<>();
-        commentsTableMap = new HashMap<>();
-        ctSheetMap = new HashMap<>();
-        Map<Integer, PackageRelationshipCollection> packageRelationshipCollectionMap = MapUtils.newHashMap();
-        xlsxReadWorkbookHolder.setPackageRelationshipCollectionMap(packageRelationshipCollectionMap);
         // analysis CTSheet
-        analysisCtSheetMap(xssfReader, xlsxReadWorkbookHolder);
+        analysisCtSheetMap(wb, xlsxReadWorkbookHolder);
 
         XSSFReader.SheetIterator ite = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
         int index = 0;
@@ -174,14 +254,10 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         readCache.init(xlsxReadContext);
     }
 
-    private void analysisUse1904WindowDate(XSSFReader xssfReader, XlsxReadWorkbookHolder xlsxReadWorkbookHolder)
-            throws Exception {
+    private void analysisUse1904WindowDate(CTWorkbook wb, XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
         if (xlsxReadWorkbookHolder.getReadWorkbook().getUse1904windowing() != null) {
             return;
         }
-        InputStream workbookXml = xssfReader.getWorkbookData();
-        WorkbookDocument ctWorkbook = WorkbookDocument.Factory.parse(workbookXml);
-        CTWorkbook wb = ctWorkbook.getWorkbook();
         CTWorkbookPr prefix = wb.getWorkbookPr();
         if (prefix != null && prefix.getDate1904()) {
             xlsxReadWorkbookHolder.getGlobalConfiguration().setUse1904windowing(Boolean.TRUE);
@@ -192,15 +268,20 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
 
     private void analysisSharedStringsTable(
             InputStream sharedStringsTableInputStream, XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
-        ContentHandler handler = new SharedStringsTableHandler(xlsxReadWorkbookHolder.getReadCache());
-        parseXmlSource(sharedStringsTableInputStream, handler);
+        parseXmlPart(
+                sharedStringsTableInputStream, new SharedStringsTableHandler(xlsxReadWorkbookHolder.getReadCache()));
         xlsxReadWorkbookHolder.getReadCache().putFinished();
     }
 
-    private void analysisCtSheetMap(XSSFReader xssfReader, XlsxReadWorkbookHolder xlsxReadWorkbookHolder)
-            throws Exception {
-        CTWorkbook wb =
-                WorkbookDocument.Factory.parse(xssfReader.getWorkbookData()).getWorkbook();
+    private void parseXmlPart(InputStream inputStream, ContentHandler handler) {
+        if (xmlInputFactory != null) {
+            parseXmlSource(inputStream, new ContentHandlerStaxReader(handler));
+        } else {
+            parseXmlSource(inputStream, handler);
+        }
+    }
+
+    private void analysisCtSheetMap(CTWorkbook wb, XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
         for (CTSheet ctSheet : wb.getSheets().getSheetList()) {
             boolean isHidden =
                     (ctSheet.getState() == STSheetState.HIDDEN) || (ctSheet.getState() == STSheetState.VERY_HIDDEN);
@@ -210,6 +291,152 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         }
     }
 
+    /**
+     * The comments and the hyperlinks are found by the relationships of the sheets, which need the whole package.
+     * A decrypted package is always a stream, even for a file.
+     */
+    private boolean useStreamingZip(XlsxReadWorkbookHolder xlsxReadWorkbookHolder, InputStream decryptedStream) {
+        if (!xlsxReadWorkbookHolder.getStreamingZip()) {
+            return false;
+        }
+        if (decryptedStream == null
+                && (xlsxReadWorkbookHolder.getFile() != null || xlsxReadWorkbookHolder.getInputStream() == null)) {
+            return false;
+        }
+        Set<CellExtraTypeEnum> extraReadSet = xlsxReadWorkbookHolder.getExtraReadSet();
+        return !extraReadSet.contains(CellExtraTypeEnum.COMMENT) && !extraReadSet.contains(CellExtraTypeEnum.HYPERLINK);
+    }
+
+    /**
+     * Read the workbook, its relationships, the shared strings and the styles as they come in the zip, the sheets
+     * coming before them are spooled. The rest of the zip is left for {@link #execute()}.
+     */
+    private void readStreamingZip(XlsxReadWorkbookHolder xlsxReadWorkbookHolder) throws Exception {
+        StreamingParts streamingParts = new StreamingParts();
+        List<String> unknownPartNameList = new ArrayList<>();
+        String partName;
+        while (!streamingParts.finished() && (partName = streamingZipReader.nextPart()) != null) {
+            if (streamingParts.contentTypeMap == null) {
+                if (PACKAGE_RELATIONSHIPS_PART_NAME.equals(partName)) {
+                    continue;
+                }
+                if (!CONTENT_TYPES_PART_NAME.equals(partName)) {
+                    // Nothing is known about the parts before the content types
+                    streamingZipReader.spool();
+                    unknownPartNameList.add(partName);
+                    continue;
+                }
+                readContentTypes(streamingParts, streamingZipReader.partInputStream());
+                for (String unknownPartName : unknownPartNameList) {
+                    if (streamingParts.isWorkbookPart(unknownPartName)) {
+                        long size = streamingZipReader.spooledSize(unknownPartName);
+                        try (InputStream inputStream = streamingZipReader.openSpooled(unknownPartName)) {
+                            readStreamingPart(streamingParts, unknownPartName, inputStream, size);
+                        }
+                    }
+                }
+                continue;
+            }
+            if (SHEET_CONTENT_TYPE_SET.contains(streamingParts.contentType(partName))) {
+                streamingZipReader.spool();
+            } else if (partName.equals(streamingParts.sharedStringsPartName) && streamingZipReader.partSize() < 0) {
+                // The size selects the cache, it is known once the part is spooled when the local header has none
+                streamingZipReader.spool();
+                long size = streamingZipReader.spooledSize(partName);
+                try (InputStream inputStream = streamingZipReader.openSpooled(partName)) {
+                    readStreamingPart(streamingParts, partName, inputStream, size);
+                }
+            } else if (streamingParts.isWorkbookPart(partName)) {
+                readStreamingPart(
+                        streamingParts, partName, streamingZipReader.partInputStream(), streamingZipReader.partSize());
+            }
+        }
+        if (streamingParts.ctWorkbook == null || streamingParts.relationshipMap == null) {
+            throw new ExcelAnalysisException("Can not find any sheet!");
+        }
+        analysisUse1904WindowDate(streamingParts.ctWorkbook, xlsxReadWorkbookHolder);
+        analysisCtSheetMap(streamingParts.ctWorkbook, xlsxReadWorkbookHolder);
+        int index = 0;
+        for (CTSheet ctSheet : streamingParts.ctWorkbook.getSheets().getSheetList()) {
+            String target = streamingParts.relationshipMap.get(ctSheet.getId());
+            if (target == null || !ctSheetMap.containsKey(ctSheet.getName())) {
+                continue;
+            }
+            ReadSheet readSheet = new ReadSheet(index, ctSheet.getName());
+            readSheet.setHidden(ctSheet.getState() == STSheetState.HIDDEN);
+            readSheet.setVeryHidden(ctSheet.getState() == STSheetState.VERY_HIDDEN);
+            sheetList.add(readSheet);
+            sheetPartNameMap.put(index, StreamingZipReader.resolve(streamingParts.workbookPartName, target));
+            index++;
+        }
+    }
+
+    private void readContentTypes(StreamingParts streamingParts, InputStream inputStream) throws IOException {
+        // Read twice, once for the parts and once for the extensions
+        byte[] contentTypes = IoUtils.toByteArray(inputStream);
+        AttributeMapHandler overrideHandler = new AttributeMapHandler("Override", "PartName", "ContentType");
+        parseXmlPart(new ByteArrayInputStream(contentTypes), overrideHandler);
+        AttributeMapHandler defaultHandler = new AttributeMapHandler("Default", "Extension", "ContentType");
+        parseXmlPart(new ByteArrayInputStream(contentTypes), defaultHandler);
+        streamingParts.contentTypeMap = new HashMap<>();
+        overrideHandler.getAttributeMap().forEach((partName, contentType) -> {
+            String name = StreamingZipReader.partName(partName);
+            streamingParts.contentTypeMap.put(name, contentType);
+            if (WORKBOOK_CONTENT_TYPE_SET.contains(contentType)) {
+                streamingParts.workbookPartName = name;
+            } else if (XSSFRelation.SHARED_STRINGS.getContentType().equals(contentType)) {
+                streamingParts.sharedStringsPartName = name;
+            } else if (XSSFRelation.STYLES.getContentType().equals(contentType)) {
+                streamingParts.stylesPartName = name;
+            }
+        });
+        streamingParts.defaultContentTypeMap = new HashMap<>();
+        defaultHandler.getAttributeMap().forEach((extension, contentType) -> streamingParts.defaultContentTypeMap.put(
+                extension.toLowerCase(Locale.ROOT), contentType));
+        if (streamingParts.workbookPartName != null) {
+            streamingParts.relationshipsPartName =
+                    StreamingZipReader.relationshipsPartName(streamingParts.workbookPartName);
+        }
+    }
+
+    private void readStreamingPart(StreamingParts streamingParts, String partName, InputStream inputStream, long size)
+            throws Exception {
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        if (partName.equals(streamingParts.workbookPartName)) {
+            streamingParts.ctWorkbook = WorkbookDocument.Factory.parse(inputStream).getWorkbook();
+        } else if (partName.equals(streamingParts.relationshipsPartName)) {
+            AttributeMapHandler relationshipHandler = new AttributeMapHandler("Relationship", "Id", "Target");
+            parseXmlPart(inputStream, relationshipHandler);
+            streamingParts.relationshipMap = relationshipHandler.getAttributeMap();
+        } else if (partName.equals(streamingParts.sharedStringsPartName)) {
+            ReadCacheSelector readCacheSelector = xlsxReadWorkbookHolder.getReadCacheSelector();
+            ReadCache readCache = readCacheSelector.readCache(size);
+            if (readCache == null) {
+                log.warn(
+                        "{} does not select a cache for the shared strings read from a stream, the default selector is"
+                                + " used.",
+                        readCacheSelector.getClass().getName());
+                readCache = new SimpleReadCacheSelector().readCache(size);
+            }
+            xlsxReadWorkbookHolder.setReadCache(readCache);
+            readCache.init(xlsxReadContext);
+            analysisSharedStringsTable(inputStream, xlsxReadWorkbookHolder);
+            streamingParts.sharedStringsRead = true;
+        } else if (partName.equals(streamingParts.stylesPartName)) {
+            try {
+                StylesTable stylesTable = new StylesTable();
+                stylesTable.readFrom(inputStream);
+                xlsxReadWorkbookHolder.setStylesTable(stylesTable);
+            } catch (Exception e) {
+                log.warn(
+                        "Currently excel cannot get style information, but it doesn't affect the data analysis.You can"
+                                + " try to save the file with office again or ignore the current error.",
+                        e);
+            }
+            streamingParts.stylesRead = true;
+        }
+    }
+
     private OPCPackage readOpcPackage(XlsxReadWorkbookHolder xlsxReadWorkbookHolder, InputStream decryptedStream)
             throws Exception {
         try {
@@ -285,28 +512,164 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         }
     }
 
+    private XMLInputFactory newXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+        return factory;
+    }
+
+    private void parseXmlSource(InputStream inputStream, StaxReader staxReader) {
+        XMLStreamReader xmlStreamReader = null;
+        try {
+            xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
+            staxReader.read(xmlStreamReader);
+        } catch (XMLStreamException | SAXException e) {
+            throw new ExcelAnalysisException(e);
+        } finally {
+            if (xmlStreamReader != null) {
+                try {
+                    xmlStreamReader.close();
+                } catch (XMLStreamException ignore) {
+                }
+            }
+            if (inputStream != null) {
+                try {
+                    inputStream.close();
+                } catch (IOException e) {
+                    throw new ExcelAnalysisException("Can not close 'inputStream'!");
+                }
+            }
+        }
+    }
+
     @Override
     public void execute() {
+        List<ReadSheet> readSheetList = new ArrayList<>();
         for (ReadSheet readSheet : sheetList) {
             readSheet = SheetUtils.match(readSheet, xlsxReadContext);
             if (readSheet != null) {
+                readSheetList.add(readSheet);
+            }
+        }
+        if (streamingZipReader != null) {
+            executeStreaming(readSheetList);
+            return;
+        }
+        int parallelSheets = xlsxReadContext.xlsxReadWorkbookHolder().getParallelSheets();
+        if (parallelSheets > 1 && readSheetList.size() > 1) {
+            executeParallel(readSheetList, parallelSheets);
+            return;
+        }
+        for (ReadSheet readSheet : readSheetList) {
+            xlsxReadContext.currentSheet(readSheet);
+            readSheet(xlsxReadContext, readSheet, sheetMap.get(readSheet.getSheetNo()));
+        }
+    }
+
+    /**
+     * The sheets are read one after another from the zip, a sheet coming before the one being looked for is spooled
+     * only if it is read afterwards.
+     */
+    private void executeStreaming(List<ReadSheet> readSheetList) {
+        try {
+            for (int i = 0; i < readSheetList.size(); i++) {
+                ReadSheet readSheet = readSheetList.get(i);
+                String partName = sheetPartNameMap.get(readSheet.getSheetNo());
+                InputStream inputStream = streamingZipReader.openSpooled(partName);
+                if (inputStream == null) {
+                    inputStream = nextStreamingSheet(partName, readSheetList.subList(i + 1, readSheetList.size()));
+                }
+                xlsxReadContext.currentSheet(readSheet);
+                readSheet(xlsxReadContext, readSheet, inputStream);
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException(e);
+        }
+    }
+
+    private InputStream nextStreamingSheet(String partName, List<ReadSheet> laterReadSheetList) throws IOException {
+        Set<String> laterPartNameSet = new HashSet<>();
+        for (ReadSheet readSheet : laterReadSheetList) {
+            laterPartNameSet.add(sheetPartNameMap.get(readSheet.getSheetNo()));
+        }
+        String currentPartName;
+        while ((currentPartName = streamingZipReader.nextPart()) != null) {
+            if (currentPartName.equals(partName)) {
+                return streamingZipReader.partInputStream();
+            }
+            if (laterPartNameSet.contains(currentPartName)) {
+                streamingZipReader.spool();
+            }
+        }
+        throw new ExcelAnalysisException("Can not find the part '" + partName
+                + "', the zip is only read once when streaming and the sheet has already been passed.");
+    }
+
+    /**
+     * Each sheet gets its own context sharing the workbook holder, so the shared strings and the styles are only read.
+     */
+    private void executeParallel(List<ReadSheet> readSheetList, int parallelSheets) {
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelSheets, readSheetList.size()));
+        try {
+            List<Future<?>> futureList = new ArrayList<>(readSheetList.size());
+            for (ReadSheet readSheet : readSheetList) {
+                XlsxReadContext sheetReadContext =
+                        new DefaultXlsxReadContext(xlsxReadContext.xlsxReadWorkbookHolder());
+                sheetReadContext.currentSheet(readSheet);
+                futureList.add(executorService.submit(() -> {
+                    try {
+                        readSheet(sheetReadContext, readSheet, sheetMap.get(readSheet.getSheetNo()));
+                    } finally {
+                        NumberDataFormatterUtils.removeThreadLocalCache();
+                        DateUtils.removeThreadLocalCache();
+                        ClassUtils.removeThreadLocalCache();
+                    }
+                }));
+            }
+            RuntimeException exception = null;
+            for (Future<?> future : futureList) {
                 try {
-                    xlsxReadContext.currentSheet(readSheet);
-                    parseXmlSource(sheetMap.get(readSheet.getSheetNo()), new XlsxRowHandler(xlsxReadContext));
-                    // Read comments
-                    readComments(readSheet);
-                } catch (ExcelAnalysisStopSheetException e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Custom stop!", e);
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (exception == null) {
+                        exception = e.getCause() instanceof RuntimeException
+                                ? (RuntimeException) e.getCause()
+                                : new ExcelAnalysisException(e.getCause());
                     }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ExcelAnalysisException("Interrupted while reading sheets in parallel", e);
                 }
-                // The last sheet is read
-                xlsxReadContext.analysisEventProcessor().endSheet(xlsxReadContext);
             }
+            if (exception != null) {
+                throw exception;
+            }
+        } finally {
+            executorService.shutdownNow();
         }
     }
 
-    private void readComments(ReadSheet readSheet) {
+    private void readSheet(XlsxReadContext sheetReadContext, ReadSheet readSheet, InputStream inputStream) {
+        try {
+            if (xmlInputFactory != null) {
+                parseXmlSource(inputStream, new XlsxStaxRowReader(sheetReadContext));
+            } else {
+                parseXmlSource(inputStream, new XlsxRowHandler(sheetReadContext));
+            }
+            // Read comments
+            readComments(sheetReadContext, readSheet);
+        } catch (ExcelAnalysisStopSheetException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop!", e);
+            }
+        }
+        // The last sheet is read
+        sheetReadContext.analysisEventProcessor().endSheet(sheetReadContext);
+    }
+
+    private void readComments(XlsxReadContext xlsxReadContext, ReadSheet readSheet) {
         if (!xlsxReadContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
             return;
         }
@@ -327,4 +690,61 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
             xlsxReadContext.analysisEventProcessor().extra(xlsxReadContext);
         }
     }
+
+    /**
+     * The parts of the workbook found while streaming
+     */
+    private static class StreamingParts {
+        /**
+         * key: part name value: content type, null until the content types are read
+         */
+        private Map<String, String> contentTypeMap;
+        /**
+         * key: extension value: content type
+         */
+        private Map<String, String> defaultContentTypeMap;
+
+        private String workbookPartName;
+
+        private String relationshipsPartName;
+
+        private String sharedStringsPartName;
+
+        private String stylesPartName;
+
+        private CTWorkbook ctWorkbook;
+        /**
+         * Relationships of the workbook, key: id value: target
+         */
+        private Map<String, String> relationshipMap;
+
+        private boolean sharedStringsRead;
+
+        private boolean stylesRead;
+
+        private String contentType(String partName) {
+            String contentType = contentTypeMap.get(partName);
+            if (contentType != null) {
+                return contentType;
+            }
+            return defaultContentTypeMap.get(partName.substring(partName.lastIndexOf('.') + 1));
+        }
+
+        private boolean isWorkbookPart(String partName) {
+            return partName.equals(workbookPartName)
+                    || partName.equals(relationshipsPartName)
+                    || partName.equals(sharedStringsPartName)
+                    || partName.equals(stylesPartName);
+        }
+
+        /**
+         * The sheets after it can be read straight from the zip
+         */
+        private boolean finished() {
+            return ctWorkbook != null
+                    && relationshipMap != null
+                    && (sharedStringsPartName == null || sharedStringsRead)
+                    && (stylesPartName == null || stylesRead);
+        }
+    }
 }
@@ -14,7 +14,12 @@ public class CellFormulaTagHandler extends AbstractXlsxTagHandler {
     @Override
     public void startElement(XlsxReadContext xlsxReadContext, String name, Attributes attributes) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
-        xlsxReadSheetHolder.setTempFormula(new StringBuilder());
+        StringBuilder tempFormula = xlsxReadSheetHolder.getTempFormula();
+        if (tempFormula == null) {
+            xlsxReadSheetHolder.setTempFormula(new StringBuilder());
+        } else {
+            tempFormula.setLength(0);
+        }
     }
 
     @Override
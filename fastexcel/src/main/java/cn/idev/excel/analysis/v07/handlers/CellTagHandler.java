@@ -11,6 +11,7 @@ import cn.idev.excel.util.BooleanUtils;
 import cn.idev.excel.util.PositionUtils;
 import cn.idev.excel.util.StringUtils;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import org.xml.sax.Attributes;
 
 /**
@@ -35,8 +36,13 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         // t="n" ,it means Number
         // t is null ,it means Empty or Number
         CellDataTypeEnum type = CellDataTypeEnum.buildFromCellType(attributes.getValue(ExcelXmlConstants.ATTRIBUTE_T));
-        xlsxReadSheetHolder.setTempCellData(new ReadCellData<>(type));
-        xlsxReadSheetHolder.setTempData(new StringBuilder());
+        xlsxReadSheetHolder.setTempCellData(newCellData(xlsxReadSheetHolder, type));
+        StringBuilder tempData = xlsxReadSheetHolder.getTempData();
+        if (tempData == null) {
+            xlsxReadSheetHolder.setTempData(new StringBuilder());
+        } else {
+            tempData.setLength(0);
+        }
 
         // Put in data transformation information
         String dateFormatIndex = attributes.getValue(ExcelXmlConstants.ATTRIBUTE_S);
@@ -57,38 +63,42 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
         ReadCellData<?> tempCellData = xlsxReadSheetHolder.getTempCellData();
         StringBuilder tempData = xlsxReadSheetHolder.getTempData();
-        String tempDataString = tempData.toString();
         CellDataTypeEnum oldType = tempCellData.getType();
         switch (oldType) {
             case STRING:
                 // In some cases, although cell type is a string, it may be an empty tag
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     break;
                 }
                 String stringValue =
-                        xlsxReadContext.readWorkbookHolder().getReadCache().get(Integer.valueOf(tempDataString));
+                        xlsxReadContext.readWorkbookHolder().getReadCache().get(parseIndex(tempData));
                 tempCellData.setStringValue(stringValue);
                 break;
             case DIRECT_STRING:
             case ERROR:
-                tempCellData.setStringValue(tempDataString);
+                tempCellData.setStringValue(tempData.toString());
                 tempCellData.setType(CellDataTypeEnum.STRING);
                 break;
             case BOOLEAN:
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     tempCellData.setType(CellDataTypeEnum.EMPTY);
                     break;
                 }
-                tempCellData.setBooleanValue(BooleanUtils.valueOf(tempData.toString()));
+                tempCellData.setBooleanValue(parseBoolean(tempData));
                 break;
             case NUMBER:
             case EMPTY:
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     tempCellData.setType(CellDataTypeEnum.EMPTY);
                     break;
                 }
                 tempCellData.setType(CellDataTypeEnum.NUMBER);
-                tempCellData.setOriginalNumberValue(new BigDecimal(tempDataString));
+                if (xlsxReadSheetHolder.getReusableCellData() != null) {
+                    // Only convert to BigDecimal when it is used
+                    tempCellData.setRawNumberValue(tempData);
+                    break;
+                }
+                tempCellData.setOriginalNumberValue(parseNumber(xlsxReadSheetHolder, tempData));
                 tempCellData.setNumberValue(
                         tempCellData.getOriginalNumberValue().round(FastExcelConstants.EXCEL_MATH_CONTEXT));
                 break;
@@ -111,4 +121,73 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         tempCellData.setColumnIndex(xlsxReadSheetHolder.getColumnIndex());
         xlsxReadSheetHolder.getCellMap().put(xlsxReadSheetHolder.getColumnIndex(), tempCellData);
     }
+
+    /**
+     * Reuse the cell data of the same column when reusing is enabled.
+     */
+    private ReadCellData<?> newCellData(XlsxReadSheetHolder xlsxReadSheetHolder, CellDataTypeEnum type) {
+        ReadCellData<?>[] reusableCellData = xlsxReadSheetHolder.getReusableCellData();
+        if (reusableCellData == null) {
+            return new ReadCellData<>(type);
+        }
+        int columnIndex = xlsxReadSheetHolder.getColumnIndex();
+        if (columnIndex >= reusableCellData.length) {
+            reusableCellData = Arrays.copyOf(reusableCellData, Math.max(columnIndex + 1, reusableCellData.length << 1));
+            xlsxReadSheetHolder.setReusableCellData(reusableCellData);
+        }
+        ReadCellData<?> cellData = reusableCellData[columnIndex];
+        if (cellData == null) {
+            cellData = new ReadCellData<>(type);
+            reusableCellData[columnIndex] = cellData;
+        } else {
+            cellData.reset(type);
+        }
+        return cellData;
+    }
+
+    /**
+     * Same as {@link Integer#valueOf(String)}, without creating a string.
+     */
+    private Integer parseIndex(StringBuilder tempData) {
+        int length = tempData.length();
+        if (length > 9) {
+            return Integer.valueOf(tempData.toString());
+        }
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = tempData.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.valueOf(tempData.toString());
+            }
+            index = index * 10 + digit;
+        }
+        return index;
+    }
+
+    /**
+     * Same as {@link BooleanUtils#valueOf(String)} for the values written by excel, without creating a string.
+     */
+    private Boolean parseBoolean(StringBuilder tempData) {
+        if (tempData.length() == 1) {
+            char value = tempData.charAt(0);
+            if (value == '1') {
+                return Boolean.TRUE;
+            }
+            if (value == '0') {
+                return Boolean.FALSE;
+            }
+        }
+        return BooleanUtils.valueOf(tempData.toString());
+    }
+
+    private BigDecimal parseNumber(XlsxReadSheetHolder xlsxReadSheetHolder, StringBuilder tempData) {
+        int length = tempData.length();
+        char[] tempNumberData = xlsxReadSheetHolder.getTempNumberData();
+        if (tempNumberData.length < length) {
+            tempNumberData = new char[length];
+            xlsxReadSheetHolder.setTempNumberData(tempNumberData);
+        }
+        tempData.getChars(0, length, tempNumberData, 0);
+        return new BigDecimal(tempNumberData, 0, length);
+    }
 }
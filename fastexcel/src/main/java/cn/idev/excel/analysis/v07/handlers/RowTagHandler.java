@@ -33,7 +33,7 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
                     new LinkedHashMap<Integer, Cell>()));
             xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
             xlsxReadSheetHolder.setColumnIndex(null);
-            xlsxReadSheetHolder.setCellMap(new LinkedHashMap<Integer, Cell>());
+            resetCellMap(xlsxReadSheetHolder);
             lastRowIndex++;
         }
         xlsxReadSheetHolder.setRowIndex(rowIndex);
@@ -68,6 +68,15 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
                 xlsxReadSheetHolder.getCellMap()));
         xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
         xlsxReadSheetHolder.setColumnIndex(null);
-        xlsxReadSheetHolder.setCellMap(new LinkedHashMap<>());
+        resetCellMap(xlsxReadSheetHolder);
+    }
+
+    private void resetCellMap(XlsxReadSheetHolder xlsxReadSheetHolder) {
+        if (xlsxReadSheetHolder.getReusableCellData() != null) {
+            // The listeners have been told not to hold the map when reusing cell data
+            xlsxReadSheetHolder.getCellMap().clear();
+            return;
+        }
+        xlsxReadSheetHolder.setCellMap(new LinkedHashMap<Integer, Cell>());
     }
 }
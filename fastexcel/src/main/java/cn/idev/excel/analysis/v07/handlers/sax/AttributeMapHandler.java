@@ -0,0 +1,44 @@
+package cn.idev.excel.analysis.v07.handlers.sax;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Sax read two attributes of the elements with the same name, such as the targets of the relationships or the content
+ * types of the parts.
+ *
+ *
+ */
+public class AttributeMapHandler extends DefaultHandler {
+    private final String elementName;
+
+    private final String keyAttributeName;
+
+    private final String valueAttributeName;
+    /**
+     * key: value of the key attribute value: value of the value attribute
+     */
+    @Getter
+    private final Map<String, String> attributeMap = new HashMap<>();
+
+    public AttributeMapHandler(String elementName, String keyAttributeName, String valueAttributeName) {
+        this.elementName = elementName;
+        this.keyAttributeName = keyAttributeName;
+        this.valueAttributeName = valueAttributeName;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String name, Attributes attributes) {
+        if (!elementName.equals(name.substring(name.indexOf(':') + 1))) {
+            return;
+        }
+        String key = attributes.getValue(keyAttributeName);
+        String value = attributes.getValue(valueAttributeName);
+        if (key != null && value != null) {
+            attributeMap.put(key, value);
+        }
+    }
+}
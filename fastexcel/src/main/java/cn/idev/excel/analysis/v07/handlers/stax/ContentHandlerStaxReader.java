@@ -0,0 +1,68 @@
+package cn.idev.excel.analysis.v07.handlers.stax;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Feed the events of a {@link XMLStreamReader} to a sax {@link ContentHandler}, used for the parts that have no pull
+ * parsing version, like the shared strings.
+ *
+ *
+ */
+public class ContentHandlerStaxReader implements StaxReader {
+    private final ContentHandler contentHandler;
+    private final StaxAttributes attributes;
+
+    public ContentHandlerStaxReader(ContentHandler contentHandler) {
+        this.contentHandler = contentHandler;
+        this.attributes = new StaxAttributes();
+    }
+
+    @Override
+    public void read(XMLStreamReader xmlStreamReader) throws XMLStreamException, SAXException {
+        attributes.setXmlStreamReader(xmlStreamReader);
+        contentHandler.startDocument();
+        while (xmlStreamReader.hasNext()) {
+            switch (xmlStreamReader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    contentHandler.startElement(
+                            namespaceUri(xmlStreamReader),
+                            xmlStreamReader.getLocalName(),
+                            qName(xmlStreamReader),
+                            attributes);
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    contentHandler.characters(
+                            xmlStreamReader.getTextCharacters(),
+                            xmlStreamReader.getTextStart(),
+                            xmlStreamReader.getTextLength());
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    contentHandler.endElement(
+                            namespaceUri(xmlStreamReader), xmlStreamReader.getLocalName(), qName(xmlStreamReader));
+                    break;
+                default:
+                    // ignore
+            }
+        }
+        contentHandler.endDocument();
+    }
+
+    private static String namespaceUri(XMLStreamReader xmlStreamReader) {
+        String namespaceUri = xmlStreamReader.getNamespaceURI();
+        return namespaceUri == null ? "" : namespaceUri;
+    }
+
+    private static String qName(XMLStreamReader xmlStreamReader) {
+        String prefix = xmlStreamReader.getPrefix();
+        if (prefix == null || prefix.isEmpty()) {
+            return xmlStreamReader.getLocalName();
+        }
+        return prefix + ":" + xmlStreamReader.getLocalName();
+    }
+}
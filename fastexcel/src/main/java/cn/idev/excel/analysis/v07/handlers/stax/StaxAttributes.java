@@ -0,0 +1,127 @@
+package cn.idev.excel.analysis.v07.handlers.stax;
+
+import javax.xml.stream.XMLStreamReader;
+import org.xml.sax.Attributes;
+
+/**
+ * Expose the attributes of the current element of a {@link XMLStreamReader} as {@link Attributes}, so that the tag
+ * handlers can be shared with the sax parser.
+ * <p>
+ * Only valid until the reader moves to the next event.
+ *
+ *
+ */
+class StaxAttributes implements Attributes {
+    private static final String CDATA_TYPE = "CDATA";
+
+    private XMLStreamReader xmlStreamReader;
+
+    void setXmlStreamReader(XMLStreamReader xmlStreamReader) {
+        this.xmlStreamReader = xmlStreamReader;
+    }
+
+    @Override
+    public int getLength() {
+        return xmlStreamReader.getAttributeCount();
+    }
+
+    @Override
+    public String getURI(int index) {
+        if (index < 0 || index >= getLength()) {
+            return null;
+        }
+        String uri = xmlStreamReader.getAttributeNamespace(index);
+        return uri == null ? "" : uri;
+    }
+
+    @Override
+    public String getLocalName(int index) {
+        if (index < 0 || index >= getLength()) {
+            return null;
+        }
+        return xmlStreamReader.getAttributeLocalName(index);
+    }
+
+    @Override
+    public String getQName(int index) {
+        if (index < 0 || index >= getLength()) {
+            return null;
+        }
+        String prefix = xmlStreamReader.getAttributePrefix(index);
+        String localName = xmlStreamReader.getAttributeLocalName(index);
+        if (prefix == null || prefix.isEmpty()) {
+            return localName;
+        }
+        return prefix + ":" + localName;
+    }
+
+    @Override
+    public String getType(int index) {
+        if (index < 0 || index >= getLength()) {
+            return null;
+        }
+        return CDATA_TYPE;
+    }
+
+    @Override
+    public String getValue(int index) {
+        if (index < 0 || index >= getLength()) {
+            return null;
+        }
+        return xmlStreamReader.getAttributeValue(index);
+    }
+
+    @Override
+    public int getIndex(String uri, String localName) {
+        for (int i = 0; i < getLength(); i++) {
+            if (localName.equals(xmlStreamReader.getAttributeLocalName(i)) && uri.equals(getURI(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getIndex(String qName) {
+        // Compare the prefix and the local name separately, so no name is built.
+        int colon = qName.indexOf(':');
+        for (int i = 0; i < getLength(); i++) {
+            String prefix = xmlStreamReader.getAttributePrefix(i);
+            String localName = xmlStreamReader.getAttributeLocalName(i);
+            if (colon < 0) {
+                if ((prefix == null || prefix.isEmpty()) && qName.equals(localName)) {
+                    return i;
+                }
+                continue;
+            }
+            if (prefix != null
+                    && prefix.length() == colon
+                    && qName.length() == colon + 1 + localName.length()
+                    && qName.startsWith(prefix)
+                    && qName.startsWith(localName, colon + 1)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getType(String uri, String localName) {
+        return getType(getIndex(uri, localName));
+    }
+
+    @Override
+    public String getType(String qName) {
+        return getType(getIndex(qName));
+    }
+
+    @Override
+    public String getValue(String uri, String localName) {
+        return getValue(getIndex(uri, localName));
+    }
+
+    @Override
+    public String getValue(String qName) {
+        return getValue(getIndex(qName));
+    }
+}
@@ -0,0 +1,22 @@
+package cn.idev.excel.analysis.v07.handlers.stax;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.xml.sax.SAXException;
+
+/**
+ * Read a xml part of the xlsx file through a {@link XMLStreamReader}.
+ *
+ *
+ */
+public interface StaxReader {
+
+    /**
+     * Read until the end of the document.
+     *
+     * @param xmlStreamReader
+     * @throws XMLStreamException
+     * @throws SAXException
+     */
+    void read(XMLStreamReader xmlStreamReader) throws XMLStreamException, SAXException;
+}
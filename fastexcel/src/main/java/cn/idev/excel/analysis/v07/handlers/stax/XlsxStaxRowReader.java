@@ -0,0 +1,196 @@
+package cn.idev.excel.analysis.v07.handlers.stax;
+
+import cn.idev.excel.analysis.v07.handlers.CellFormulaTagHandler;
+import cn.idev.excel.analysis.v07.handlers.CellInlineStringValueTagHandler;
+import cn.idev.excel.analysis.v07.handlers.CellTagHandler;
+import cn.idev.excel.analysis.v07.handlers.CellValueTagHandler;
+import cn.idev.excel.analysis.v07.handlers.CountTagHandler;
+import cn.idev.excel.analysis.v07.handlers.HyperlinkTagHandler;
+import cn.idev.excel.analysis.v07.handlers.MergeCellTagHandler;
+import cn.idev.excel.analysis.v07.handlers.RowTagHandler;
+import cn.idev.excel.analysis.v07.handlers.XlsxTagHandler;
+import cn.idev.excel.constant.ExcelXmlConstants;
+import cn.idev.excel.context.xlsx.XlsxReadContext;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Pull parsing version of {@link cn.idev.excel.analysis.v07.handlers.sax.XlsxRowHandler}.
+ * <p>
+ * The tags are dispatched by their local name, so any namespace prefix is supported, and the parts of the worksheet
+ * that are never read are skipped without calling any handler.
+ *
+ *
+ */
+public class XlsxStaxRowReader implements StaxReader {
+    /**
+     * Children of the worksheet that have nothing to read
+     */
+    private static final Set<String> SKIP_TAG_SET = new HashSet<>(Arrays.asList(
+            "sheetPr",
+            "sheetViews",
+            "sheetFormatPr",
+            "cols",
+            "sheetCalcPr",
+            "sheetProtection",
+            "protectedRanges",
+            "scenarios",
+            "autoFilter",
+            "sortState",
+            "dataConsolidate",
+            "customSheetViews",
+            "phoneticPr",
+            "conditionalFormatting",
+            "dataValidations",
+            "printOptions",
+            "pageMargins",
+            "pageSetup",
+            "headerFooter",
+            "rowBreaks",
+            "colBreaks",
+            "customProperties",
+            "cellWatches",
+            "ignoredErrors",
+            "smartTags",
+            "drawing",
+            "legacyDrawing",
+            "legacyDrawingHF",
+            "drawingHF",
+            "picture",
+            "oleObjects",
+            "controls",
+            "webPublishItems",
+            "tableParts",
+            "extLst"));
+    /**
+     * The depth of the children of the worksheet
+     */
+    private static final int WORKSHEET_CHILD_DEPTH = 2;
+
+    private static final XlsxTagHandler CELL_FORMULA_TAG_HANDLER = new CellFormulaTagHandler();
+    private static final XlsxTagHandler CELL_INLINE_STRING_VALUE_TAG_HANDLER = new CellInlineStringValueTagHandler();
+    private static final XlsxTagHandler CELL_TAG_HANDLER = new CellTagHandler();
+    private static final XlsxTagHandler CELL_VALUE_TAG_HANDLER = new CellValueTagHandler();
+    private static final XlsxTagHandler COUNT_TAG_HANDLER = new CountTagHandler();
+    private static final XlsxTagHandler HYPERLINK_TAG_HANDLER = new HyperlinkTagHandler();
+    private static final XlsxTagHandler MERGE_CELL_TAG_HANDLER = new MergeCellTagHandler();
+    private static final XlsxTagHandler ROW_TAG_HANDLER = new RowTagHandler();
+
+    private final XlsxReadContext xlsxReadContext;
+    private final StaxAttributes attributes;
+    /**
+     * Handler of each open tag by depth, null means the tag is not handled
+     */
+    private XlsxTagHandler[] depthHandlers;
+    /**
+     * Handlers of the open tags that are handled, the first one receives the characters
+     */
+    private final Deque<XlsxTagHandler> handlerDeque;
+
+    public XlsxStaxRowReader(XlsxReadContext xlsxReadContext) {
+        this.xlsxReadContext = xlsxReadContext;
+        this.attributes = new StaxAttributes();
+        this.depthHandlers = new XlsxTagHandler[16];
+        this.handlerDeque = new ArrayDeque<>();
+    }
+
+    @Override
+    public void read(XMLStreamReader xmlStreamReader) throws XMLStreamException {
+        attributes.setXmlStreamReader(xmlStreamReader);
+        int depth = 0;
+        while (xmlStreamReader.hasNext()) {
+            switch (xmlStreamReader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    String localName = xmlStreamReader.getLocalName();
+                    if (depth == WORKSHEET_CHILD_DEPTH && SKIP_TAG_SET.contains(localName)) {
+                        skipElement(xmlStreamReader);
+                        depth--;
+                        break;
+                    }
+                    startElement(depth, localName);
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    XlsxTagHandler currentHandler = handlerDeque.peek();
+                    if (currentHandler != null) {
+                        currentHandler.characters(
+                                xlsxReadContext,
+                                xmlStreamReader.getTextCharacters(),
+                                xmlStreamReader.getTextStart(),
+                                xmlStreamReader.getTextLength());
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    XlsxTagHandler handler = depthHandlers[depth];
+                    depthHandlers[depth] = null;
+                    depth--;
+                    if (handler != null) {
+                        handler.endElement(xlsxReadContext, xmlStreamReader.getLocalName());
+                        handlerDeque.pop();
+                    }
+                    break;
+                default:
+                    // ignore
+            }
+        }
+    }
+
+    private void startElement(int depth, String localName) {
+        if (depth >= depthHandlers.length) {
+            depthHandlers = Arrays.copyOf(depthHandlers, depthHandlers.length << 1);
+        }
+        XlsxTagHandler handler = handler(localName);
+        if (handler == null || !handler.support(xlsxReadContext)) {
+            return;
+        }
+        depthHandlers[depth] = handler;
+        handlerDeque.push(handler);
+        handler.startElement(xlsxReadContext, localName, attributes);
+    }
+
+    private static XlsxTagHandler handler(String localName) {
+        switch (localName) {
+            case ExcelXmlConstants.CELL_TAG:
+                return CELL_TAG_HANDLER;
+            case ExcelXmlConstants.CELL_VALUE_TAG:
+                return CELL_VALUE_TAG_HANDLER;
+            case ExcelXmlConstants.ROW_TAG:
+                return ROW_TAG_HANDLER;
+            case ExcelXmlConstants.CELL_FORMULA_TAG:
+                return CELL_FORMULA_TAG_HANDLER;
+            case ExcelXmlConstants.CELL_INLINE_STRING_VALUE_TAG:
+                return CELL_INLINE_STRING_VALUE_TAG_HANDLER;
+            case ExcelXmlConstants.DIMENSION_TAG:
+                return COUNT_TAG_HANDLER;
+            case ExcelXmlConstants.MERGE_CELL_TAG:
+                return MERGE_CELL_TAG_HANDLER;
+            case ExcelXmlConstants.HYPERLINK_TAG:
+                return HYPERLINK_TAG_HANDLER;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Move the reader to the end of the current element.
+     */
+    private static void skipElement(XMLStreamReader xmlStreamReader) throws XMLStreamException {
+        int level = 1;
+        while (level > 0) {
+            int event = xmlStreamReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                level++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                level--;
+            }
+        }
+    }
+}
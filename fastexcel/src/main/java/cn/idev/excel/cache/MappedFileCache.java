@@ -0,0 +1,204 @@
+package cn.idev.excel.cache;
+
+import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.exception.ExcelAnalysisException;
+import cn.idev.excel.util.FileUtils;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Store the shared strings in a temporary file and read them through a {@link MappedByteBuffer}.
+ * <p>
+ * Each value is written as a length-prefixed UTF-8 byte sequence and its position is kept in a primitive offset table,
+ * so a lookup only decodes the requested value and never goes through java serialization. The mapped memory lives
+ * outside the heap, which makes this cache suitable for workbooks with millions of shared strings.
+ *
+ *
+ */
+@Slf4j
+public class MappedFileCache implements ReadCache {
+    /**
+     * Maximum size of one mapped segment, a single mapping cannot exceed {@link Integer#MAX_VALUE}.unit byte.
+     */
+    private static final int DEFAULT_MAX_SEGMENT_SIZE = 1 << 30;
+
+    private static final int DEFAULT_OFFSET_CAPACITY = 1024;
+    private static final int WRITE_BUFF_SIZE = 64 * 1024;
+    /**
+     * The length written in place of a null value
+     */
+    private static final int NULL_LENGTH = -1;
+    /**
+     * The length prefix of each value
+     */
+    private static final int LENGTH_SIZE = 4;
+
+    private final int maxSegmentSize;
+    /**
+     * Directory containing the cache file
+     */
+    private File cacheDirectory;
+
+    private File cacheFile;
+
+    private DataOutputStream outputStream;
+    /**
+     * The high 32 bits are the segment index and the low 32 bits are the position in that segment
+     */
+    private long[] offsets;
+    /**
+     * Number of values put
+     */
+    private int size;
+    /**
+     * Bytes written
+     */
+    private long position;
+    /**
+     * Start position of each segment in the file
+     */
+    private List<Long> segmentStartList;
+
+    private MappedByteBuffer[] segments;
+
+    public MappedFileCache() {
+        this(DEFAULT_MAX_SEGMENT_SIZE);
+    }
+
+    MappedFileCache(int maxSegmentSize) {
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    @Override
+    public void init(AnalysisContext analysisContext) {
+        cacheDirectory = FileUtils.createCacheTmpFile();
+        cacheFile = new File(cacheDirectory, UUID.randomUUID() + ".cache");
+        try {
+            outputStream =
+                    new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cacheFile), WRITE_BUFF_SIZE));
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not create cache file!", e);
+        }
+        offsets = new long[DEFAULT_OFFSET_CAPACITY];
+        size = 0;
+        position = 0L;
+        segmentStartList = new ArrayList<>();
+        segmentStartList.add(0L);
+        segments = null;
+    }
+
+    @Override
+    public void put(String value) {
+        byte[] bytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+        int entrySize = bytes == null ? LENGTH_SIZE : LENGTH_SIZE + bytes.length;
+        long segmentStart = segmentStartList.get(segmentStartList.size() - 1);
+        if (position - segmentStart + entrySize > maxSegmentSize && position > segmentStart) {
+            segmentStart = position;
+            segmentStartList.add(segmentStart);
+        }
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size << 1);
+        }
+        offsets[size++] = ((long) (segmentStartList.size() - 1) << 32) | (position - segmentStart);
+        try {
+            if (bytes == null) {
+                outputStream.writeInt(NULL_LENGTH);
+            } else {
+                outputStream.writeInt(bytes.length);
+                outputStream.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not write cache file!", e);
+        }
+        position += entrySize;
+    }
+
+    @Override
+    public String get(Integer key) {
+        if (key == null || key < 0 || key >= size) {
+            return null;
+        }
+        if (segments == null) {
+            throw new ExcelAnalysisException("The cache can not be read before all the values are put.");
+        }
+        long offset = offsets[key];
+        MappedByteBuffer segment = segments[(int) (offset >>> 32)];
+        int index = (int) offset;
+        int length = segment.getInt(index);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        // The segments are shared between threads, a duplicate has its own position.
+        ByteBuffer buffer = segment.duplicate();
+        buffer.position(index + LENGTH_SIZE);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void putFinished() {
+        if (outputStream == null) {
+            return;
+        }
+        closeOutputStream();
+        segments = new MappedByteBuffer[segmentStartList.size()];
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(cacheFile, "r");
+                FileChannel fileChannel = randomAccessFile.getChannel()) {
+            for (int i = 0; i < segments.length; i++) {
+                long start = segmentStartList.get(i);
+                long end = i + 1 < segments.length ? segmentStartList.get(i + 1) : position;
+                segments[i] = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not map cache file!", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Mapped {} shared strings, {} bytes, {} segments.", size, position, segments.length);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closeOutputStream();
+        // A mapped file can not be deleted on windows
+        if (segments != null) {
+            for (MappedByteBuffer segment : segments) {
+                FileUtils.unmap(segment);
+            }
+            segments = null;
+        }
+        offsets = null;
+        if (cacheDirectory != null) {
+            FileUtils.delete(cacheDirectory);
+            cacheDirectory = null;
+            cacheFile = null;
+        }
+    }
+
+    private void closeOutputStream() {
+        if (outputStream == null) {
+            return;
+        }
+        try {
+            outputStream.close();
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not close cache file!", e);
+        } finally {
+            outputStream = null;
+        }
+    }
+}
@@ -17,4 +17,14 @@ public interface ReadCacheSelector {
      * @return
      */
     ReadCache readCache(PackagePart sharedStringsTablePackagePart);
+
+    /**
+     * Select a cache for the shared strings read from a stream, which have no package part.
+     *
+     * @param sharedStringsTableSize uncompressed size of the shared strings
+     * @return cache, null to select it by a {@link SimpleReadCacheSelector} with the default settings
+     */
+    default ReadCache readCache(long sharedStringsTableSize) {
+        return null;
+    }
 }
@@ -2,6 +2,7 @@ package cn.idev.excel.cache.selector;
 
 import cn.idev.excel.cache.Ehcache;
 import cn.idev.excel.cache.MapCache;
+import cn.idev.excel.cache.MappedFileCache;
 import cn.idev.excel.cache.ReadCache;
 import java.io.IOException;
 import lombok.EqualsAndHashCode;
@@ -55,6 +56,12 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
      */
     private Integer maxCacheActivateBatchCount;
 
+    /**
+     * Shared strings exceeding {@link #maxUseMapCacheSize} will use {@link MappedFileCache} instead of {@link Ehcache}.
+     * Default is false.
+     */
+    private Boolean useMappedFileCache;
+
     public SimpleReadCacheSelector() {}
 
     /**
@@ -80,15 +87,27 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
                 return new MapCache();
             }
         }
+        return readCache(size);
+    }
+
+    @Override
+    public ReadCache readCache(long size) {
         if (maxUseMapCacheSize == null) {
             maxUseMapCacheSize = DEFAULT_MAX_USE_MAP_CACHE_SIZE;
         }
-        if (size < maxUseMapCacheSize * B2M) {
+        // An unknown size may be large, it is kept out of the heap
+        if (size >= 0 && size < maxUseMapCacheSize * B2M) {
             if (log.isDebugEnabled()) {
                 log.debug("Use map cache.size:{}", size);
             }
             return new MapCache();
         }
+        if (Boolean.TRUE.equals(useMappedFileCache)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Use mapped file cache.size:{}", size);
+            }
+            return new MappedFileCache();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Use ehcache.size:{}", size);
         }
@@ -70,6 +70,21 @@ public class AnalysisContextImpl implements AnalysisContext {
         }
     }
 
+    /**
+     * Create a context that shares the workbook holder of another context, so that each sheet read in parallel has its
+     * own sheet and row holder.
+     *
+     * @param readWorkbookHolder shared workbook holder
+     */
+    public AnalysisContextImpl(ReadWorkbookHolder readWorkbookHolder) {
+        if (readWorkbookHolder == null) {
+            throw new IllegalArgumentException("Workbook holder argument cannot be null");
+        }
+        this.readWorkbookHolder = readWorkbookHolder;
+        currentReadHolder = readWorkbookHolder;
+        analysisEventProcessor = new DefaultAnalysisEventProcessor();
+    }
+
     @Override
     public void currentSheet(ReadSheet readSheet) {
         switch (readWorkbookHolder.getExcelType()) {
@@ -9,7 +9,6 @@ import cn.idev.excel.metadata.property.ExcelContentProperty;
 import cn.idev.excel.support.ExcelTypeEnum;
 import cn.idev.excel.util.ClassUtils;
 import cn.idev.excel.util.DateUtils;
-import cn.idev.excel.util.FileUtils;
 import cn.idev.excel.util.ListUtils;
 import cn.idev.excel.util.NumberDataFormatterUtils;
 import cn.idev.excel.util.StringUtils;
@@ -27,15 +26,10 @@ import cn.idev.excel.write.metadata.holder.WriteSheetHolder;
 import cn.idev.excel.write.metadata.holder.WriteTableHolder;
 import cn.idev.excel.write.metadata.holder.WriteWorkbookHolder;
 import cn.idev.excel.write.property.ExcelWriteHeadProperty;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.util.Map;
-import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.hssf.record.crypto.Biff8EncryptionKey;
-import org.apache.poi.openxml4j.opc.OPCPackage;
-import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.poifs.crypt.EncryptionInfo;
 import org.apache.poi.poifs.crypt.EncryptionMode;
 import org.apache.poi.poifs.crypt.Encryptor;
@@ -464,21 +458,21 @@ public class WriteContextImpl implements WriteContext {
             return;
         }
         Throwable throwable = null;
-        boolean isOutputStreamEncrypt = false;
         // Determine if you need to write excel
         boolean writeExcel = !onException;
         if (writeWorkbookHolder.getWriteExcelOnException()) {
             writeExcel = Boolean.TRUE;
         }
+        // The workbook is never written in plain when it has to be encrypted, even if the encryption fails
+        boolean isEncrypt07 = writeExcel && isEncrypt07();
         // No data is written if an exception is thrown
-        if (writeExcel) {
+        if (isEncrypt07) {
             try {
-                isOutputStreamEncrypt = doOutputStreamEncrypt07();
+                doEncrypt07();
             } catch (Throwable t) {
                 throwable = t;
             }
-        }
-        if (!isOutputStreamEncrypt) {
+        } else {
             try {
                 if (writeExcel) {
                     writeWorkbookHolder.getWorkbook().write(writeWorkbookHolder.getOutputStream());
@@ -503,13 +497,6 @@ public class WriteContextImpl implements WriteContext {
         } catch (Throwable t) {
             throwable = t;
         }
-        if (writeExcel && !isOutputStreamEncrypt) {
-            try {
-                doFileEncrypt07();
-            } catch (Throwable t) {
-                throwable = t;
-            }
-        }
         try {
             if (writeWorkbookHolder.getTempTemplateInputStream() != null) {
                 writeWorkbookHolder.getTempTemplateInputStream().close();
@@ -517,6 +504,12 @@ public class WriteContextImpl implements WriteContext {
         } catch (Throwable t) {
             throwable = t;
         }
+        if (writeWorkbookHolder.getImagePrefetcher() != null) {
+            writeWorkbookHolder.getImagePrefetcher().close();
+        }
+        if (writeWorkbookHolder.getConvertExecutorService() != null) {
+            writeWorkbookHolder.getConvertExecutorService().shutdownNow();
+        }
         clearEncrypt03();
         removeThreadLocalCache();
         if (throwable != null) {
@@ -588,83 +581,36 @@ public class WriteContextImpl implements WriteContext {
     }
 
     /**
-     * Encrypts the output stream for newer Excel formats.
+     * Whether the workbook is encrypted for newer Excel formats.
+     *
+     * @return True if a password is set on a xlsx.
+     */
+    private boolean isEncrypt07() {
+        return !StringUtils.isEmpty(writeWorkbookHolder.getPassword())
+                && ExcelTypeEnum.XLSX.equals(writeWorkbookHolder.getExcelType());
+    }
+
+    /**
+     * Encrypts the workbook for newer Excel formats while it is written.
+     * <p>
+     * The package goes through the agile encryptor segment by segment as it is zipped, so neither a plain copy of the
+     * workbook nor a second pass over it is needed. The encrypted package is then written to the output stream, which
+     * is the file itself when writing to a file.
      *
-     * @return True if encryption is successful, otherwise false.
      * @throws Exception If an error occurs during encryption.
      */
-    private boolean doOutputStreamEncrypt07() throws Exception {
-        if (StringUtils.isEmpty(writeWorkbookHolder.getPassword())
-                || !ExcelTypeEnum.XLSX.equals(writeWorkbookHolder.getExcelType())) {
-            return false;
-        }
-        if (writeWorkbookHolder.getFile() != null) {
-            return false;
-        }
-        File tempXlsx = FileUtils.createTmpFile(UUID.randomUUID() + ".xlsx");
-        FileOutputStream tempFileOutputStream = new FileOutputStream(tempXlsx);
+    private void doEncrypt07() throws Exception {
         try {
-            writeWorkbookHolder.getWorkbook().write(tempFileOutputStream);
-        } finally {
-            try {
-                writeWorkbookHolder.getWorkbook().close();
-                tempFileOutputStream.close();
-            } catch (Exception e) {
-                if (!tempXlsx.delete()) {
-                    throw new ExcelGenerateException("Can not delete temp File!");
+            Encryptor encryptor = new EncryptionInfo(EncryptionMode.agile).getEncryptor();
+            encryptor.confirmPassword(writeWorkbookHolder.getPassword());
+            try (POIFSFileSystem fileSystem = new POIFSFileSystem()) {
+                try (OutputStream outputStream = encryptor.getDataStream(fileSystem)) {
+                    writeWorkbookHolder.getWorkbook().write(outputStream);
                 }
-                throw e;
+                fileSystem.writeFilesystem(writeWorkbookHolder.getOutputStream());
             }
-        }
-        try (POIFSFileSystem fileSystem = openFileSystemAndEncrypt(tempXlsx)) {
-            fileSystem.writeFilesystem(writeWorkbookHolder.getOutputStream());
         } finally {
-            if (!tempXlsx.delete()) {
-                throw new ExcelGenerateException("Can not delete temp File!");
-            }
-        }
-        return true;
-    }
-
-    /**
-     * To encrypt
-     */
-    private void doFileEncrypt07() throws Exception {
-        // Check if the password is empty or the file type is not xlsx, if so, return directly
-        if (StringUtils.isEmpty(writeWorkbookHolder.getPassword())
-                || !ExcelTypeEnum.XLSX.equals(writeWorkbookHolder.getExcelType())) {
-            return;
-        }
-        // Check if the file is null, if so, return directly
-        if (writeWorkbookHolder.getFile() == null) {
-            return;
+            writeWorkbookHolder.getWorkbook().close();
         }
-        // Use try-with-resources to automatically close resources, encrypt and write the file
-        try (POIFSFileSystem fileSystem = openFileSystemAndEncrypt(writeWorkbookHolder.getFile());
-                FileOutputStream fileOutputStream = new FileOutputStream(writeWorkbookHolder.getFile())) {
-            fileSystem.writeFilesystem(fileOutputStream);
-        }
-    }
-
-    /**
-     * Opens a file system and encrypts the given file.
-     *
-     * This method creates a new POIFSFileSystem instance, sets up an Encryptor with a standard encryption mode,
-     * and confirms the password for encryption. It then opens the provided file in read-write mode, saves its content
-     * into an encrypted output stream, and finally returns the encrypted file system.
-     *
-     * @param file The file to be encrypted.
-     * @return An encrypted POIFSFileSystem object.
-     * @throws Exception If any error occurs during the encryption process or file handling.
-     */
-    private POIFSFileSystem openFileSystemAndEncrypt(File file) throws Exception {
-        POIFSFileSystem fileSystem = new POIFSFileSystem();
-        Encryptor encryptor = new EncryptionInfo(EncryptionMode.standard).getEncryptor();
-        encryptor.confirmPassword(writeWorkbookHolder.getPassword());
-        try (OPCPackage opcPackage = OPCPackage.open(file, PackageAccess.READ_WRITE);
-                OutputStream outputStream = encryptor.getDataStream(fileSystem)) {
-            opcPackage.save(outputStream);
-        }
-        return fileSystem;
     }
 }
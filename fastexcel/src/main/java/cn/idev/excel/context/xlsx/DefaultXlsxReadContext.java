@@ -18,6 +18,10 @@ public class DefaultXlsxReadContext extends AnalysisContextImpl implements XlsxR
         super(readWorkbook, actualExcelType);
     }
 
+    public DefaultXlsxReadContext(XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
+        super(xlsxReadWorkbookHolder);
+    }
+
     @Override
     public XlsxReadWorkbookHolder xlsxReadWorkbookHolder() {
         return (XlsxReadWorkbookHolder) readWorkbookHolder();
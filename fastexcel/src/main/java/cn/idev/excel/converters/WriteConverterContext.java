@@ -34,4 +34,15 @@ public class WriteConverterContext<T> {
      * write context
      */
     private WriteContext writeContext;
+
+    /**
+     * Bytes of the image loaded ahead by the writer when the value is a url or a file.Nullable.
+     */
+    private byte[] prefetchedBytes;
+
+    public WriteConverterContext(T value, ExcelContentProperty contentProperty, WriteContext writeContext) {
+        this.value = value;
+        this.contentProperty = contentProperty;
+        this.writeContext = writeContext;
+    }
 }
@@ -1,6 +1,7 @@
 package cn.idev.excel.converters.file;
 
 import cn.idev.excel.converters.Converter;
+import cn.idev.excel.converters.WriteConverterContext;
 import cn.idev.excel.metadata.GlobalConfiguration;
 import cn.idev.excel.metadata.data.WriteCellData;
 import cn.idev.excel.metadata.property.ExcelContentProperty;
@@ -25,4 +26,13 @@ public class FileImageConverter implements Converter<File> {
             throws IOException {
         return new WriteCellData<>(FileUtils.readFileToByteArray(value));
     }
+
+    @Override
+    public WriteCellData<?> convertToExcelData(WriteConverterContext<File> context) throws Exception {
+        // Take the image loaded ahead if there is one
+        if (context.getPrefetchedBytes() != null) {
+            return new WriteCellData<>(context.getPrefetchedBytes());
+        }
+        return Converter.super.convertToExcelData(context);
+    }
 }
@@ -1,6 +1,7 @@
 package cn.idev.excel.converters.url;
 
 import cn.idev.excel.converters.Converter;
+import cn.idev.excel.converters.WriteConverterContext;
 import cn.idev.excel.metadata.GlobalConfiguration;
 import cn.idev.excel.metadata.data.WriteCellData;
 import cn.idev.excel.metadata.property.ExcelContentProperty;
@@ -43,4 +44,13 @@ public class UrlImageConverter implements Converter<URL> {
             }
         }
     }
+
+    @Override
+    public WriteCellData<?> convertToExcelData(WriteConverterContext<URL> context) throws Exception {
+        // Take the image loaded ahead if there is one
+        if (context.getPrefetchedBytes() != null) {
+            return new WriteCellData<>(context.getPrefetchedBytes());
+        }
+        return Converter.super.convertToExcelData(context);
+    }
 }
@@ -0,0 +1,19 @@
+package cn.idev.excel.enums;
+
+/**
+ * The parser used to read the xml parts of the xlsx file.
+ *
+ *
+ */
+public enum XmlParserTypeEnum {
+    /**
+     * default.Push parsing through {@link javax.xml.parsers.SAXParser}.
+     */
+    SAX,
+
+    /**
+     * Pull parsing through {@link javax.xml.stream.XMLStreamReader}, the tags are dispatched by their local name and the
+     * parts of the sheet that are not read are skipped.
+     */
+    STAX
+}
@@ -0,0 +1,52 @@
+package cn.idev.excel.metadata;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Create a bean and access its properties without building a bean map for each row.
+ *
+ * @see cn.idev.excel.util.BeanAccessorUtils
+ *
+ */
+@Getter
+@AllArgsConstructor
+public class BeanAccessor {
+    /**
+     * bean class
+     */
+    private final Class<?> beanClass;
+    /**
+     * Create a new instance
+     */
+    private final Supplier<Object> constructor;
+    /**
+     * key: property name matching cglib value: accessor
+     */
+    private final Map<String, PropertyAccessor> propertyMap;
+
+    public Object newInstance() {
+        return constructor.get();
+    }
+
+    /**
+     * Get the property, null if the bean has no getter and no setter with this name.
+     *
+     * @param name
+     * @return
+     */
+    public PropertyAccessor getProperty(String name) {
+        return propertyMap.get(name);
+    }
+
+    /**
+     * The number of the properties, same as the size of the cglib bean map.
+     *
+     * @return
+     */
+    public int size() {
+        return propertyMap.size();
+    }
+}
@@ -0,0 +1,66 @@
+package cn.idev.excel.metadata;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Read and write one property of a bean, the same property as the one seen by the cglib bean map.
+ *
+ *
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyAccessor {
+    /**
+     * The property name matching cglib
+     */
+    private final String name;
+    /**
+     * The type of the getter or of the setter
+     */
+    private final Class<?> type;
+    /**
+     * Null if there is no getter
+     */
+    private final Function<Object, Object> getter;
+    /**
+     * Null if there is no setter
+     */
+    private final BiConsumer<Object, Object> setter;
+
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Get the value, null if there is no getter.
+     *
+     * @param bean
+     * @return
+     */
+    public Object get(Object bean) {
+        if (getter == null) {
+            return null;
+        }
+        return getter.apply(bean);
+    }
+
+    /**
+     * Set the value, ignored if there is no setter.
+     *
+     * @param bean
+     * @param value
+     */
+    public void set(Object bean, Object value) {
+        if (setter == null) {
+            return;
+        }
+        setter.accept(bean, value);
+    }
+}
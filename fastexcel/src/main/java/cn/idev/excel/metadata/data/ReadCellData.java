@@ -3,6 +3,7 @@ package cn.idev.excel.metadata.data;
 import cn.idev.excel.constant.FastExcelConstants;
 import cn.idev.excel.enums.CellDataTypeEnum;
 import java.math.BigDecimal;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -47,6 +48,24 @@ public class ReadCellData<T> extends CellData<T> {
      */
     private DataFormatData dataFormatData;
 
+    /**
+     * The text of a number that has not been converted to {@link BigDecimal} yet.
+     * <p>
+     * Only used when the cell data is reused, the numbers are converted the first time they are asked for.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private char[] rawNumberValue;
+
+    /**
+     * The length of {@link #rawNumberValue}, negative means there is no number waiting to be converted.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int rawNumberValueLength = -1;
+
     public ReadCellData(CellDataTypeEnum type) {
         super();
         if (type == null) {
@@ -94,6 +113,87 @@ public class ReadCellData<T> extends CellData<T> {
         setBooleanValue(booleanValue);
     }
 
+    /**
+     * Keep the text of a number and only convert it to {@link BigDecimal} when {@link #getNumberValue()} or
+     * {@link #getOriginalNumberValue()} is called.
+     *
+     * @param value the text of the number
+     */
+    public void setRawNumberValue(CharSequence value) {
+        int length = value.length();
+        if (rawNumberValue == null || rawNumberValue.length < length) {
+            rawNumberValue = new char[length];
+        }
+        for (int i = 0; i < length; i++) {
+            rawNumberValue[i] = value.charAt(i);
+        }
+        rawNumberValueLength = length;
+        originalNumberValue = null;
+        super.setNumberValue(null);
+    }
+
+    /**
+     * Clear all the values, so that this instance can be reused for another cell.
+     *
+     * @param type cell type
+     */
+    public void reset(CellDataTypeEnum type) {
+        setType(type);
+        setStringValue(null);
+        setBooleanValue(null);
+        setData(null);
+        setFormulaData(null);
+        setRowIndex(null);
+        setColumnIndex(null);
+        super.setNumberValue(null);
+        originalNumberValue = null;
+        dataFormatData = null;
+        rawNumberValueLength = -1;
+    }
+
+    @Override
+    public BigDecimal getNumberValue() {
+        convertRawNumberValue();
+        return super.getNumberValue();
+    }
+
+    @Override
+    public void setNumberValue(BigDecimal numberValue) {
+        convertRawNumberValue();
+        super.setNumberValue(numberValue);
+    }
+
+    public BigDecimal getOriginalNumberValue() {
+        convertRawNumberValue();
+        return originalNumberValue;
+    }
+
+    public void setOriginalNumberValue(BigDecimal originalNumberValue) {
+        convertRawNumberValue();
+        this.originalNumberValue = originalNumberValue;
+    }
+
+    @Override
+    public void checkEmpty() {
+        if (rawNumberValueLength > 0 && getType() == CellDataTypeEnum.NUMBER) {
+            return;
+        }
+        super.checkEmpty();
+    }
+
+    private void convertRawNumberValue() {
+        if (rawNumberValueLength < 0) {
+            return;
+        }
+        int length = rawNumberValueLength;
+        rawNumberValueLength = -1;
+        if (length == 0) {
+            return;
+        }
+        originalNumberValue = new BigDecimal(rawNumberValue, 0, length);
+        super.setNumberValue(originalNumberValue.round(FastExcelConstants.EXCEL_MATH_CONTEXT));
+    }
+
     public static ReadCellData<?> newEmptyInstance() {
         return newEmptyInstance(null, null);
     }
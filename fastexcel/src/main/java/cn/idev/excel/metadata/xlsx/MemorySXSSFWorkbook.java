@@ -0,0 +1,36 @@
+package cn.idev.excel.metadata.xlsx;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * Streaming workbook that never creates temporary files.
+ * <p>
+ * The rows flushed out of the row access window are deflated into memory by {@link MemorySheetDataWriter} instead of
+ * being written to a temporary xml file, and the xssf part is also assembled in memory when the workbook is written.
+ *
+ *
+ */
+public class MemorySXSSFWorkbook extends SXSSFWorkbook {
+
+    public MemorySXSSFWorkbook() {
+        super();
+    }
+
+    public MemorySXSSFWorkbook(XSSFWorkbook workbook) {
+        super(workbook);
+    }
+
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        return new MemorySheetDataWriter();
+    }
+
+    @Override
+    public void write(OutputStream stream) throws IOException {
+        writeAvoidingTempFiles(stream);
+    }
+}
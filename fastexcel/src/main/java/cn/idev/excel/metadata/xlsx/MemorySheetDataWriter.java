@@ -0,0 +1,131 @@
+package cn.idev.excel.metadata.xlsx;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.SequenceInputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+
+/**
+ * Sheet data writer keeping the flushed rows deflated in memory.
+ * <p>
+ * The rows are compressed with {@link Deflater#BEST_SPEED} into fixed size blocks, so growing the buffer never copies
+ * the data already written.
+ *
+ *
+ */
+public class MemorySheetDataWriter extends SheetDataWriter {
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int BUFFER_SIZE = 8 * 1024;
+    /**
+     * Set from {@link #createWriter(File)} which is called by the super constructor, so it must not be initialized
+     * here.
+     */
+    private BlockOutputStream blockOutputStream;
+
+    private Deflater deflater;
+
+    public MemorySheetDataWriter() throws IOException {
+        super();
+    }
+
+    /**
+     * No file is created, the returned file is only deleted by {@link #dispose}, and an empty path is never deleted.
+     */
+    @Override
+    public File createTempFile() {
+        return new File("");
+    }
+
+    @Override
+    public Writer createWriter(File fd) {
+        blockOutputStream = new BlockOutputStream();
+        deflater = new Deflater(Deflater.BEST_SPEED, true);
+        return new BufferedWriter(
+                new OutputStreamWriter(
+                        new DeflaterOutputStream(blockOutputStream, deflater, BUFFER_SIZE), StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public InputStream getWorksheetXMLInputStream() {
+        Inflater inflater = new Inflater(true);
+        return new InflaterInputStream(blockOutputStream.toInputStream(), inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    private static class BlockOutputStream extends OutputStream {
+        private final List<byte[]> blockList = new ArrayList<>();
+
+        private byte[] block;
+
+        private int position;
+
+        @Override
+        public void write(int b) {
+            if (block == null || position == block.length) {
+                nextBlock();
+            }
+            block[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                if (block == null || position == block.length) {
+                    nextBlock();
+                }
+                int length = Math.min(len, block.length - position);
+                System.arraycopy(b, off, block, position, length);
+                position += length;
+                off += length;
+                len -= length;
+            }
+        }
+
+        private void nextBlock() {
+            block = new byte[BLOCK_SIZE];
+            position = 0;
+            blockList.add(block);
+        }
+
+        private InputStream toInputStream() {
+            List<InputStream> inputStreamList = new ArrayList<>(blockList.size());
+            for (byte[] bytes : blockList) {
+                int length = bytes == block ? position : bytes.length;
+                inputStreamList.add(new ByteArrayInputStream(bytes, 0, length));
+            }
+            return new SequenceInputStream(Collections.enumeration(inputStreamList));
+        }
+    }
+}
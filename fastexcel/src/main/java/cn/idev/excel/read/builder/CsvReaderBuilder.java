@@ -106,6 +106,17 @@ public class CsvReaderBuilder extends AbstractExcelReaderParameterBuilder<CsvRea
         return this;
     }
 
+    /**
+     * Sets the number of threads parsing the file at the same time
+     *
+     * @param parallelism the number of threads, only works when reading from a file
+     * @return Returns a CsvReaderBuilder object, enabling method chaining
+     */
+    public CsvReaderBuilder parallelism(Integer parallelism) {
+        this.readWorkbook.setCsvParallelism(parallelism);
+        return this;
+    }
+
     private ExcelReader buildExcelReader() {
         this.csvFormatBuilder.setTrim(this.readWorkbook.getAutoTrim() == null
                 || this.readWorkbook.getAutoTrim()
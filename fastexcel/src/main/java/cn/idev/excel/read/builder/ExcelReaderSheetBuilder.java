@@ -4,9 +4,11 @@ import cn.idev.excel.ExcelReader;
 import cn.idev.excel.event.SyncReadListener;
 import cn.idev.excel.exception.ExcelAnalysisException;
 import cn.idev.excel.exception.ExcelGenerateException;
+import cn.idev.excel.read.listener.StreamReadListener;
 import cn.idev.excel.read.metadata.ReadSheet;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Build sheet
@@ -114,6 +116,49 @@ public class ExcelReaderSheetBuilder extends AbstractExcelReaderParameterBuilder
         return (List<T>) syncReadListener.getList();
     }
 
+    /**
+     * Iterate the data while reading, the iterator must be closed if it is not read to the end.
+     *
+     * @return iterator
+     */
+    public <T> StreamReadListener<T> iterator() {
+        return iterator(StreamReadListener.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Iterate the data while reading, the iterator must be closed if it is not read to the end.
+     *
+     * @param capacity the number of rows read ahead of the iterator
+     * @return iterator
+     */
+    public <T> StreamReadListener<T> iterator(int capacity) {
+        if (excelReader == null) {
+            throw new ExcelAnalysisException("Must use 'FastExcelFactory.read().sheet()' to call this method");
+        }
+        StreamReadListener<T> streamReadListener = new StreamReadListener<>(excelReader, build(), capacity);
+        registerReadListener(streamReadListener);
+        return streamReadListener;
+    }
+
+    /**
+     * Stream the data while reading, the stream must be closed if it is not read to the end.
+     *
+     * @return stream
+     */
+    public <T> Stream<T> stream() {
+        return this.<T>iterator().stream();
+    }
+
+    /**
+     * Stream the data while reading, the stream must be closed if it is not read to the end.
+     *
+     * @param capacity the number of rows read ahead of the stream
+     * @return stream
+     */
+    public <T> Stream<T> stream(int capacity) {
+        return this.<T>iterator(capacity).stream();
+    }
+
     @Override
     protected ReadSheet parameter() {
         return readSheet;
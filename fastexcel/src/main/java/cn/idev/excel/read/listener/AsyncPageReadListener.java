@@ -0,0 +1,260 @@
+package cn.idev.excel.read.listener;
+
+import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.exception.ExcelAnalysisException;
+import cn.idev.excel.util.ListUtils;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.apache.commons.collections4.CollectionUtils;
+
+/**
+ * Page read listener that consumes the pages on other threads.
+ * <p>
+ * The rows are still parsed and converted on the reading thread, while the full pages are handed to an executor, so
+ * parsing and saving the data overlap. At most {@code maxPendingBatches} pages wait or run at the same time, the
+ * reading thread blocks when the limit is reached.
+ * <p>
+ * When {@code ordered} is true the pages are consumed one after another in the order they were read, otherwise they
+ * are consumed concurrently and the consumer must be thread safe. The first exception thrown by the consumer stops the
+ * following pages, and it is thrown on the reading thread from the next {@link #invoke} (which goes through
+ * {@link ReadListener#onException}) or from {@link #doAfterAllAnalysed}. {@link #doAfterAllAnalysed} waits for all
+ * pages of the sheet to be consumed.
+ *
+ *
+ */
+public class AsyncPageReadListener<T> implements ReadListener<T> {
+    /**
+     * Default single handle the amount of data
+     */
+    private static final int BATCH_COUNT = 100;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    /**
+     * consumer
+     */
+    private final Consumer<List<T>> consumer;
+    /**
+     * Single handle the amount of data
+     */
+    private final int batchCount;
+    /**
+     * Consume the pages in order
+     */
+    private final boolean ordered;
+    /**
+     * Number of threads of the executor created by this listener, 0 means the executor is given by the user.
+     */
+    private final int threadCount;
+
+    private final int maxPendingBatches;
+
+    private final Semaphore pendingBatches;
+    /**
+     * The first exception of the current read, the pages submitted afterwards are not consumed
+     */
+    private AtomicReference<Throwable> error = new AtomicReference<>();
+    /**
+     * Temporary storage of data
+     */
+    private List<T> cachedDataList;
+
+    private Executor executor;
+    /**
+     * The last page in ordered mode
+     */
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+    public AsyncPageReadListener(Consumer<List<T>> consumer) {
+        this(consumer, BATCH_COUNT);
+    }
+
+    public AsyncPageReadListener(Consumer<List<T>> consumer, int batchCount) {
+        this(consumer, batchCount, 1, true);
+    }
+
+    /**
+     * Consume the pages with an executor owned by this listener, its threads end after the sheet is read.
+     *
+     * @param consumer    consumer
+     * @param batchCount  rows of a page
+     * @param threadCount threads consuming the pages
+     * @param ordered     consume the pages in order
+     */
+    public AsyncPageReadListener(Consumer<List<T>> consumer, int batchCount, int threadCount, boolean ordered) {
+        this(consumer, batchCount, null, threadCount, threadCount * 2, ordered);
+    }
+
+    /**
+     * Consume the pages with the executor, the executor is not shut down by this listener.
+     *
+     * @param consumer          consumer
+     * @param batchCount        rows of a page
+     * @param executor          executor consuming the pages
+     * @param maxPendingBatches pages waiting or being consumed at most
+     * @param ordered           consume the pages in order
+     */
+    public AsyncPageReadListener(
+            Consumer<List<T>> consumer, int batchCount, Executor executor, int maxPendingBatches, boolean ordered) {
+        this(consumer, batchCount, executor, 0, maxPendingBatches, ordered);
+    }
+
+    private AsyncPageReadListener(
+            Consumer<List<T>> consumer,
+            int batchCount,
+            Executor executor,
+            int threadCount,
+            int maxPendingBatches,
+            boolean ordered) {
+        if (batchCount < 1 || maxPendingBatches < 1 || (executor == null && threadCount < 1)) {
+            throw new IllegalArgumentException("The batch count, thread count and pending batches must be positive.");
+        }
+        this.consumer = consumer;
+        this.batchCount = batchCount;
+        this.executor = executor;
+        this.threadCount = threadCount;
+        this.maxPendingBatches = maxPendingBatches;
+        this.pendingBatches = new Semaphore(maxPendingBatches);
+        this.ordered = ordered;
+        this.cachedDataList = ListUtils.newArrayListWithExpectedSize(batchCount);
+    }
+
+    @Override
+    public void invoke(T data, AnalysisContext context) {
+        checkError();
+        cachedDataList.add(data);
+        if (cachedDataList.size() >= batchCount) {
+            submit(cachedDataList);
+            cachedDataList = ListUtils.newArrayListWithExpectedSize(batchCount);
+        }
+    }
+
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {
+        try {
+            if (error.get() == null && CollectionUtils.isNotEmpty(cachedDataList)) {
+                submit(cachedDataList);
+            }
+            cachedDataList = ListUtils.newArrayListWithExpectedSize(batchCount);
+            // All the permits are back when every page is consumed
+            acquire(maxPendingBatches);
+            pendingBatches.release(maxPendingBatches);
+        } finally {
+            shutdown();
+        }
+        // Start over for the next sheet
+        tail = CompletableFuture.completedFuture(null);
+        Throwable throwable = error.getAndSet(null);
+        if (throwable != null) {
+            throw toRuntimeException(throwable);
+        }
+    }
+
+    /**
+     * The pages not consumed yet are dropped and the owned executor is shut down, the reading stops.
+     */
+    @Override
+    public void onException(Exception exception, AnalysisContext context) throws Exception {
+        error.compareAndSet(null, exception);
+        // The dropped pages still see the failed read, a later read starts over
+        error = new AtomicReference<>();
+        cachedDataList = ListUtils.newArrayListWithExpectedSize(batchCount);
+        tail = CompletableFuture.completedFuture(null);
+        shutdown();
+        throw exception;
+    }
+
+    private void submit(List<T> dataList) {
+        acquire(1);
+        AtomicReference<Throwable> error = this.error;
+        Runnable task = () -> {
+            if (error.get() == null) {
+                consumer.accept(dataList);
+            }
+        };
+        CompletableFuture<Void> future;
+        try {
+            if (ordered) {
+                future = tail.thenRunAsync(task, executor());
+                tail = future;
+            } else {
+                future = CompletableFuture.runAsync(task, executor());
+            }
+        } catch (RejectedExecutionException e) {
+            pendingBatches.release();
+            throw new ExcelAnalysisException("Can not submit the data to the executor.", e);
+        }
+        future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                error.compareAndSet(
+                        null, throwable instanceof CompletionException ? throwable.getCause() : throwable);
+            }
+            pendingBatches.release();
+        });
+    }
+
+    private void acquire(int permits) {
+        try {
+            pendingBatches.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while waiting for the data to be consumed.", e);
+        }
+    }
+
+    private void checkError() {
+        Throwable throwable = error.get();
+        if (throwable != null) {
+            throw toRuntimeException(throwable);
+        }
+    }
+
+    private RuntimeException toRuntimeException(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        return new ExcelAnalysisException("Consume data failed.", throwable);
+    }
+
+    private Executor executor() {
+        if (executor == null) {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    threadCount,
+                    threadCount,
+                    60L,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    new ConsumerThreadFactory());
+            // The threads end by themselves if the reading fails before doAfterAllAnalysed
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            executor = threadPoolExecutor;
+        }
+        return executor;
+    }
+
+    private void shutdown() {
+        if (threadCount > 0 && executor != null) {
+            ((ThreadPoolExecutor) executor).shutdown();
+            executor = null;
+        }
+    }
+
+    private static class ConsumerThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "fastexcel-page-consumer-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
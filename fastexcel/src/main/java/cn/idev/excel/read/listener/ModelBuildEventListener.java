@@ -5,14 +5,13 @@ import cn.idev.excel.enums.CellDataTypeEnum;
 import cn.idev.excel.enums.HeadKindEnum;
 import cn.idev.excel.enums.ReadDefaultReturnEnum;
 import cn.idev.excel.exception.ExcelDataConvertException;
-import cn.idev.excel.metadata.Head;
+import cn.idev.excel.metadata.BeanAccessor;
+import cn.idev.excel.metadata.PropertyAccessor;
 import cn.idev.excel.metadata.data.DataFormatData;
 import cn.idev.excel.metadata.data.ReadCellData;
 import cn.idev.excel.read.metadata.holder.ReadSheetHolder;
-import cn.idev.excel.read.metadata.property.ExcelReadHeadProperty;
-import cn.idev.excel.support.cglib.beans.BeanMap;
-import cn.idev.excel.util.BeanMapUtils;
-import cn.idev.excel.util.ClassUtils;
+import cn.idev.excel.read.metadata.property.ExcelReadColumnPlan;
+import cn.idev.excel.read.metadata.property.ExcelReadPlan;
 import cn.idev.excel.util.ConverterUtils;
 import cn.idev.excel.util.DateUtils;
 import cn.idev.excel.util.MapUtils;
@@ -136,54 +135,44 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
 
     private Object buildUserModel(
             Map<Integer, ReadCellData<?>> cellDataMap, ReadSheetHolder readSheetHolder, AnalysisContext context) {
-        ExcelReadHeadProperty excelReadHeadProperty = readSheetHolder.excelReadHeadProperty();
+        ExcelReadPlan excelReadPlan = readSheetHolder.getExcelReadPlan();
+        if (excelReadPlan == null) {
+            // no head row was read
+            excelReadPlan = new ExcelReadPlan(readSheetHolder, context);
+            readSheetHolder.setExcelReadPlan(excelReadPlan);
+        }
+        BeanAccessor beanAccessor = excelReadPlan.getBeanAccessor();
         Object resultModel;
         try {
-            resultModel = excelReadHeadProperty.getHeadClazz().newInstance();
+            resultModel = beanAccessor.newInstance();
         } catch (Exception e) {
             throw new ExcelDataConvertException(
                     context.readRowHolder().getRowIndex(),
                     0,
                     new ReadCellData<>(CellDataTypeEnum.EMPTY),
                     null,
-                    "Can not instance class: "
-                            + excelReadHeadProperty.getHeadClazz().getName(),
+                    "Can not instance class: " + beanAccessor.getBeanClass().getName(),
                     e);
         }
-        Map<Integer, Head> headMap = excelReadHeadProperty.getHeadMap();
-        BeanMap dataMap = BeanMapUtils.create(resultModel);
-        for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
-            Integer index = entry.getKey();
-            Head head = entry.getValue();
-            String fieldName = head.getFieldName();
-            if (!cellDataMap.containsKey(index)) {
+        Integer rowIndex = context.readRowHolder().getRowIndex();
+        for (ExcelReadColumnPlan columnPlan : excelReadPlan.getColumns()) {
+            ReadCellData<?> cellData = cellDataMap.get(columnPlan.getColumnIndex());
+            if (cellData == null) {
                 continue;
             }
-            ReadCellData<?> cellData = cellDataMap.get(index);
             Object value = ConverterUtils.convertToJavaObject(
-                    cellData,
-                    head.getField(),
-                    ClassUtils.declaredExcelContentProperty(
-                            dataMap,
-                            readSheetHolder.excelReadHeadProperty().getHeadClazz(),
-                            fieldName,
-                            readSheetHolder),
-                    readSheetHolder.converterMap(),
-                    context,
-                    context.readRowHolder().getRowIndex(),
-                    index);
+                    cellData, columnPlan, excelReadPlan.getConverterContext(), rowIndex);
             if (value != null) {
-                dataMap.put(fieldName, value);
+                PropertyAccessor propertyAccessor = columnPlan.getPropertyAccessor();
+                if (propertyAccessor != null) {
+                    propertyAccessor.set(resultModel, value);
+                }
 
                 // 规避由于实体类 setter 不规范导致无法赋值的问题
-                if (dataMap.get(fieldName) == null) {
-                    Object bean = dataMap.getBean();
+                Field declaredField = columnPlan.getDeclaredField();
+                if (declaredField != null && (propertyAccessor == null || propertyAccessor.get(resultModel) == null)) {
                     try {
-                        Field field = bean.getClass().getDeclaredField(fieldName);
-                        field.setAccessible(true);
-                        field.set(bean, value);
-                    } catch (NoSuchFieldException ignore) {
-                        // ignore
+                        declaredField.set(resultModel, value);
                     } catch (IllegalAccessException e) {
                         throw new RuntimeException(e);
                     }
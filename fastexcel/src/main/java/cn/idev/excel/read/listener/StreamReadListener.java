@@ -0,0 +1,198 @@
+package cn.idev.excel.read.listener;
+
+import cn.idev.excel.ExcelReader;
+import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.exception.ExcelAnalysisException;
+import cn.idev.excel.read.metadata.ReadSheet;
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterate the data of a sheet while it is being read.
+ * <p>
+ * The sheet is read by another thread which hands the data over through a bounded queue, so at most {@code capacity}
+ * rows are kept in memory. Reading starts at the first call of {@link #hasNext()} or {@link #next()}. Call
+ * {@link #close()} to stop reading early, the reading thread stops and the file is closed.
+ *
+ *
+ */
+public class StreamReadListener<T> implements ReadListener<T>, Iterator<T>, Closeable {
+    /**
+     * Default number of rows waiting in the queue
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    /**
+     * Put after the last data
+     */
+    private static final Object END = new Object();
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+
+    private final BlockingQueue<Object> queue;
+
+    private final ExcelReader excelReader;
+
+    private final ReadSheet readSheet;
+
+    private Thread readerThread;
+
+    private volatile boolean closed;
+
+    private volatile Throwable error;
+
+    private Object nextData;
+
+    private boolean ended;
+
+    public StreamReadListener(ExcelReader excelReader, ReadSheet readSheet) {
+        this(excelReader, readSheet, DEFAULT_CAPACITY);
+    }
+
+    public StreamReadListener(ExcelReader excelReader, ReadSheet readSheet, int capacity) {
+        this.excelReader = excelReader;
+        this.readSheet = readSheet;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void invoke(T data, AnalysisContext context) {
+        offer(data);
+    }
+
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {}
+
+    @Override
+    public boolean hasNext(AnalysisContext context) {
+        return !closed;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextData != null) {
+            return true;
+        }
+        if (ended || closed) {
+            return false;
+        }
+        start();
+        Object data;
+        try {
+            data = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while waiting for the data.", e);
+        }
+        if (data == END) {
+            ended = true;
+            Throwable throwable = error;
+            if (throwable instanceof RuntimeException) {
+                throw (RuntimeException) throwable;
+            }
+            if (throwable instanceof Error) {
+                throw (Error) throwable;
+            }
+            if (throwable != null) {
+                throw new ExcelAnalysisException(throwable);
+            }
+            return false;
+        }
+        nextData = data;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T data = (T) nextData;
+        nextData = null;
+        return data;
+    }
+
+    /**
+     * Stop reading and wait for the reading thread to end.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        nextData = null;
+        queue.clear();
+        Thread thread = readerThread;
+        if (thread == null) {
+            excelReader.finish();
+            return;
+        }
+        if (thread == Thread.currentThread()) {
+            return;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A sequential stream of the data, closing the stream stops reading.
+     *
+     * @return stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    private void start() {
+        if (readerThread != null) {
+            return;
+        }
+        readerThread = new Thread(
+                () -> {
+                    try {
+                        excelReader.read(readSheet);
+                    } catch (Throwable e) {
+                        error = e;
+                    } finally {
+                        excelReader.finish();
+                        offer(END);
+                    }
+                },
+                "fastexcel-stream-reader-" + THREAD_NUMBER.incrementAndGet());
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+
+    /**
+     * Wait until the queue has room, give up once the iterator is closed.
+     */
+    private void offer(Object data) {
+        try {
+            while (!closed) {
+                if (queue.offer(data, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelAnalysisException("Interrupted while handing over the data.", e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import cn.idev.excel.cache.selector.SimpleReadCacheSelector;
 import cn.idev.excel.context.AnalysisContext;
 import cn.idev.excel.enums.CellExtraTypeEnum;
 import cn.idev.excel.enums.ReadDefaultReturnEnum;
+import cn.idev.excel.enums.XmlParserTypeEnum;
 import cn.idev.excel.event.AnalysisEventListener;
 import cn.idev.excel.read.listener.ModelBuildEventListener;
 import cn.idev.excel.support.ExcelTypeEnum;
@@ -124,6 +125,62 @@ public class ReadWorkbook extends ReadBasicParameter {
      */
     private Boolean ignoreHiddenSheet;
 
+    /**
+     * The number of sheets to read at the same time.Default is 1, the sheets are read one after another.
+     * <p>
+     * Each sheet is read on its own thread with its own sheet holder, listeners registered on the workbook are shared by
+     * all the sheets and must be thread safe, listeners registered on a sheet only receive the rows of that sheet.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private Integer parallelSheets;
+
+    /**
+     * Reuse the row map and the cell data of each row while reading xlsx, numbers are only converted to
+     * {@link java.math.BigDecimal} when they are used.Default is false.
+     * <p>
+     * The map and the {@link cn.idev.excel.metadata.data.ReadCellData} passed to the listeners are only valid during the
+     * callback and must not be kept, the objects built by the default listener are not affected.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private Boolean reuseCellData;
+
+    /**
+     * The parser used to read the sheets and the shared strings.Default is {@link XmlParserTypeEnum#SAX}.
+     * <p>
+     * {@link XmlParserTypeEnum#STAX} ignores {@link #xlsxSAXParserFactoryName}.
+     * <p>
+     * Only work on the xlsx file.
+     */
+    private XmlParserTypeEnum xmlParserType;
+
+    /**
+     * Read the xlsx passed as an 'inputStream' part by part while it is unzipped, instead of copying it to a temporary
+     * file first.Default is false.
+     * <p>
+     * The workbook, the shared strings and the styles are read as they come, only the sheets coming before them are
+     * spooled to temporary files. The stream is read once: the sheets are read in the order of the zip, a sheet that is
+     * passed can not be read by a later read of the same reader, and {@link #parallelSheets} is ignored. Comments and
+     * hyperlinks need the whole package, so the stream is copied to a temporary file when they are read.
+     * <p>
+     * Only work on the xlsx file read from an 'inputStream', and on the encrypted xlsx file which is then decrypted
+     * while it is read.
+     */
+    private Boolean streamingZip;
+
+    /**
+     * The number of threads parsing a csv file at the same time.Default is 1.
+     * <p>
+     * The file is split into chunks at the end of the records and the chunks are parsed at the same time, the rows are
+     * still passed to the listeners one by one in the order of the file. It only works when reading from a file in an
+     * ascii compatible charset such as UTF-8, without an escape character, comments or a header record in the
+     * {@link CSVFormat}, otherwise the file is read by a single thread.
+     * <p>
+     * Only work on the CSV file.
+     */
+    private Integer csvParallelism;
+
     /**
      * Specifies CSVFormat for parsing.
      * Only work on the CSV file.
@@ -0,0 +1,209 @@
+package cn.idev.excel.read.metadata.holder;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map keyed by column index, the values are stored in an array addressed by the column index.
+ * <p>
+ * It iterates in insertion order like {@link java.util.LinkedHashMap}, but {@link #clear()} keeps the arrays, so one
+ * instance can be reused for every row of a sheet without allocating new nodes.
+ *
+ * @param <V> value type
+ */
+public class ColumnIndexMap<V> extends AbstractMap<Integer, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Values addressed by column index
+     */
+    private Object[] values;
+    /**
+     * Position + 1 of each column in {@link #keys}, 0 means absent
+     */
+    private int[] positions;
+    /**
+     * Column indexes in insertion order
+     */
+    private int[] keys;
+
+    private int size;
+
+    private int modCount;
+
+    private EntrySet entrySet;
+
+    public ColumnIndexMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ColumnIndexMap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        values = new Object[capacity];
+        positions = new int[capacity];
+        keys = new int[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = index(key);
+        return index >= 0 && index < positions.length && positions[index] != 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = index(key);
+        if (index < 0 || index >= values.length) {
+            return null;
+        }
+        return (V) values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(Integer key, V value) {
+        int index = key;
+        if (index < 0) {
+            throw new IllegalArgumentException("Column index can not be negative:" + index);
+        }
+        if (index >= values.length) {
+            int capacity = Math.max(index + 1, values.length << 1);
+            values = Arrays.copyOf(values, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+        }
+        V oldValue = (V) values[index];
+        values[index] = value;
+        if (positions[index] == 0) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size << 1);
+            }
+            keys[size++] = index;
+            positions[index] = size;
+            modCount++;
+        }
+        return oldValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int index = index(key);
+        if (index < 0 || index >= positions.length || positions[index] == 0) {
+            return null;
+        }
+        V oldValue = (V) values[index];
+        int position = positions[index] - 1;
+        System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+        size--;
+        for (int i = position; i < size; i++) {
+            positions[keys[i]] = i + 1;
+        }
+        values[index] = null;
+        positions[index] = 0;
+        modCount++;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            values[keys[i]] = null;
+            positions[keys[i]] = 0;
+        }
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private static int index(Object key) {
+        if (!(key instanceof Integer)) {
+            return -1;
+        }
+        return (Integer) key;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Integer, V>> {
+        @Override
+        public Iterator<Entry<Integer, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            ColumnIndexMap.this.clear();
+        }
+    }
+
+    private class ColumnEntry extends SimpleEntry<Integer, V> {
+        ColumnEntry(int key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            values[getKey()] = value;
+            return super.setValue(value);
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<Integer, V>> {
+        private int cursor;
+        private int lastKey = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<Integer, V> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastKey = keys[cursor++];
+            return new ColumnEntry(lastKey, (V) values[lastKey]);
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            ColumnIndexMap.this.remove(lastKey);
+            cursor--;
+            lastKey = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
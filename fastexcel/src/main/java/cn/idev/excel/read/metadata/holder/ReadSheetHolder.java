@@ -5,6 +5,7 @@ import cn.idev.excel.metadata.Cell;
 import cn.idev.excel.metadata.CellExtra;
 import cn.idev.excel.metadata.data.ReadCellData;
 import cn.idev.excel.read.metadata.ReadSheet;
+import cn.idev.excel.read.metadata.property.ExcelReadPlan;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
@@ -63,6 +64,10 @@ public class ReadSheetHolder extends AbstractReadHolder {
      * Read the size of the largest head in sheet head data.
      */
     private Integer maxNotEmptyDataHeadSize;
+    /**
+     * Read plan of the head class, built after the head is read.
+     */
+    private ExcelReadPlan excelReadPlan;
 
     /**
      * Reading this sheet has ended.
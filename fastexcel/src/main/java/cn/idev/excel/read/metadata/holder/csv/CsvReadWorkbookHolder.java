@@ -21,10 +21,19 @@ public class CsvReadWorkbookHolder extends ReadWorkbookHolder {
 
     private CSVFormat csvFormat;
     private CSVParser csvParser;
+    /**
+     * The number of threads parsing the file at the same time.Default is 1.
+     */
+    private Integer csvParallelism;
 
     public CsvReadWorkbookHolder(ReadWorkbook readWorkbook) {
         super(readWorkbook);
         setExcelType(ExcelTypeEnum.CSV);
         this.csvFormat = readWorkbook.getCsvFormat() == null ? CSVFormat.DEFAULT : readWorkbook.getCsvFormat();
+        if (readWorkbook.getCsvParallelism() == null || readWorkbook.getCsvParallelism() < 1) {
+            this.csvParallelism = 1;
+        } else {
+            this.csvParallelism = readWorkbook.getCsvParallelism();
+        }
     }
 }
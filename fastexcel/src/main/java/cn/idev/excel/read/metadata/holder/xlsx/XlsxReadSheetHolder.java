@@ -1,6 +1,8 @@
 package cn.idev.excel.read.metadata.holder.xlsx;
 
+import cn.idev.excel.metadata.data.ReadCellData;
 import cn.idev.excel.read.metadata.ReadSheet;
+import cn.idev.excel.read.metadata.holder.ColumnIndexMap;
 import cn.idev.excel.read.metadata.holder.ReadSheetHolder;
 import cn.idev.excel.read.metadata.holder.ReadWorkbookHolder;
 import java.util.Deque;
@@ -35,6 +37,14 @@ public class XlsxReadSheetHolder extends ReadSheetHolder {
      * Formula for current label.
      */
     private StringBuilder tempFormula;
+    /**
+     * Buffer used to convert the data of the current label to a number.
+     */
+    private char[] tempNumberData;
+    /**
+     * Cell data reused by column index, only used when reusing the cell data.
+     */
+    private ReadCellData<?>[] reusableCellData;
     /**
      * excel Relationship
      */
@@ -46,5 +56,10 @@ public class XlsxReadSheetHolder extends ReadSheetHolder {
         packageRelationshipCollection = ((XlsxReadWorkbookHolder) readWorkbookHolder)
                 .getPackageRelationshipCollectionMap()
                 .get(readSheet.getSheetNo());
+        this.tempNumberData = new char[32];
+        if (((XlsxReadWorkbookHolder) readWorkbookHolder).getReuseCellData()) {
+            this.reusableCellData = new ReadCellData<?>[16];
+            setCellMap(new ColumnIndexMap<>());
+        }
     }
 }
@@ -1,18 +1,21 @@
 package cn.idev.excel.read.metadata.holder.xlsx;
 
 import cn.idev.excel.constant.BuiltinFormats;
+import cn.idev.excel.enums.XmlParserTypeEnum;
 import cn.idev.excel.metadata.data.DataFormatData;
 import cn.idev.excel.read.metadata.ReadWorkbook;
 import cn.idev.excel.read.metadata.holder.ReadWorkbookHolder;
 import cn.idev.excel.support.ExcelTypeEnum;
-import cn.idev.excel.util.MapUtils;
+import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.parsers.SAXParserFactory;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.xssf.model.StylesTable;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 
@@ -45,7 +48,31 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
      */
     private StylesTable stylesTable;
     /**
-     * cache data format
+     * The number of sheets to read at the same time.Default is 1.
+     */
+    private Integer parallelSheets;
+    /**
+     * Reuse the row map and the cell data of each row.Default is false.
+     */
+    private Boolean reuseCellData;
+    /**
+     * The parser used to read the xml parts.Default is {@link XmlParserTypeEnum#SAX}.
+     */
+    private XmlParserTypeEnum xmlParserType;
+    /**
+     * Read the xlsx passed as an 'inputStream' or decrypted part by part while it is unzipped.Default is false.
+     */
+    private Boolean streamingZip;
+    /**
+     * The decrypted package of an encrypted xlsx read by 'streamingZip', it is decrypted while the sheets are read.
+     */
+    private InputStream decryptedInputStream;
+    /**
+     * The file system holding the encrypted package that {@link #decryptedInputStream} is read from.
+     */
+    private POIFSFileSystem poifsFileSystem;
+    /**
+     * cache data format, shared by the sheets read in parallel
      */
     private Map<Integer, DataFormatData> dataFormatDataCache;
 
@@ -58,10 +85,34 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
         super(readWorkbook);
         this.saxParserFactoryName = readWorkbook.getXlsxSAXParserFactoryName();
         setExcelType(ExcelTypeEnum.XLSX);
-        dataFormatDataCache = MapUtils.newHashMap();
+        if (readWorkbook.getParallelSheets() == null || readWorkbook.getParallelSheets() < 1) {
+            this.parallelSheets = 1;
+        } else {
+            this.parallelSheets = readWorkbook.getParallelSheets();
+        }
+        if (readWorkbook.getReuseCellData() == null) {
+            this.reuseCellData = Boolean.FALSE;
+        } else {
+            this.reuseCellData = readWorkbook.getReuseCellData();
+        }
+        if (readWorkbook.getXmlParserType() == null) {
+            this.xmlParserType = XmlParserTypeEnum.SAX;
+        } else {
+            this.xmlParserType = readWorkbook.getXmlParserType();
+        }
+        if (readWorkbook.getStreamingZip() == null) {
+            this.streamingZip = Boolean.FALSE;
+        } else {
+            this.streamingZip = readWorkbook.getStreamingZip();
+        }
+        dataFormatDataCache = new ConcurrentHashMap<>();
     }
 
     public DataFormatData dataFormatData(int dateFormatIndexInteger) {
+        DataFormatData cachedDataFormatData = dataFormatDataCache.get(dateFormatIndexInteger);
+        if (cachedDataFormatData != null) {
+            return cachedDataFormatData;
+        }
         return dataFormatDataCache.computeIfAbsent(dateFormatIndexInteger, key -> {
             DataFormatData dataFormatData = new DataFormatData();
             if (stylesTable == null) {
@@ -0,0 +1,66 @@
+package cn.idev.excel.read.metadata.property;
+
+import cn.idev.excel.converters.Converter;
+import cn.idev.excel.enums.CellDataTypeEnum;
+import cn.idev.excel.metadata.Head;
+import cn.idev.excel.metadata.PropertyAccessor;
+import cn.idev.excel.metadata.property.ExcelContentProperty;
+import java.lang.reflect.Field;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * How to read one column into the field of the head class, resolved once per sheet.
+ *
+ *
+ */
+@Getter
+@AllArgsConstructor
+public class ExcelReadColumnPlan {
+    /**
+     * Column index
+     */
+    private final int columnIndex;
+    /**
+     * Head of the column
+     */
+    private final Head head;
+    /**
+     * The type of the field
+     */
+    private final Class<?> fieldClass;
+    /**
+     * The type the cell is converted to. It is the generic type when the field is a cell data.
+     */
+    private final Class<?> convertClass;
+    /**
+     * Whether the field is a {@link cn.idev.excel.metadata.data.CellData}
+     */
+    private final boolean cellDataField;
+    /**
+     * Content property.Nullable.
+     */
+    private final ExcelContentProperty contentProperty;
+    /**
+     * Property of the bean.Nullable.
+     */
+    private final PropertyAccessor propertyAccessor;
+    /**
+     * Field declared by the bean class, set directly when the setter does not set the value.Nullable.
+     */
+    private final Field declaredField;
+    /**
+     * Converters indexed by {@link CellDataTypeEnum#ordinal()}, all the same when a custom converter is specified.
+     */
+    private final Converter<?>[] converters;
+
+    /**
+     * Get the converter of the cell type.
+     *
+     * @param type cell type
+     * @return converter, null if not found
+     */
+    public Converter<?> getConverter(CellDataTypeEnum type) {
+        return converters[type.ordinal()];
+    }
+}
@@ -0,0 +1,113 @@
+package cn.idev.excel.read.metadata.property;
+
+import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.converters.Converter;
+import cn.idev.excel.converters.ConverterKeyBuild;
+import cn.idev.excel.converters.ConverterKeyBuild.ConverterKey;
+import cn.idev.excel.converters.ReadConverterContext;
+import cn.idev.excel.enums.CellDataTypeEnum;
+import cn.idev.excel.metadata.BeanAccessor;
+import cn.idev.excel.metadata.Head;
+import cn.idev.excel.metadata.data.CellData;
+import cn.idev.excel.metadata.data.ReadCellData;
+import cn.idev.excel.metadata.property.ExcelContentProperty;
+import cn.idev.excel.read.metadata.holder.ReadSheetHolder;
+import cn.idev.excel.util.BeanAccessorUtils;
+import cn.idev.excel.util.ClassUtils;
+import cn.idev.excel.util.ConverterUtils;
+import java.lang.reflect.Field;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read plan of a sheet with a head class.
+ * <p>
+ * The fields, content properties and converters of every column are resolved once after the head is read, so
+ * converting a row does not need to look them up again.
+ *
+ *
+ */
+@Getter
+@Slf4j
+public class ExcelReadPlan {
+    private static final CellDataTypeEnum[] CELL_DATA_TYPES = CellDataTypeEnum.values();
+
+    /**
+     * Accessor of the head class
+     */
+    private final BeanAccessor beanAccessor;
+    /**
+     * Columns in the order of the head map
+     */
+    private final ExcelReadColumnPlan[] columns;
+    /**
+     * Reused for every cell of the sheet, a sheet is read by a single thread.
+     */
+    private final ReadConverterContext<Object> converterContext;
+
+    public ExcelReadPlan(ReadSheetHolder readSheetHolder, AnalysisContext context) {
+        ExcelReadHeadProperty excelReadHeadProperty = readSheetHolder.excelReadHeadProperty();
+        Class<?> headClazz = excelReadHeadProperty.getHeadClazz();
+        this.beanAccessor = BeanAccessorUtils.get(headClazz);
+        Map<Integer, Head> headMap = excelReadHeadProperty.getHeadMap();
+        this.columns = new ExcelReadColumnPlan[headMap.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
+            columns[i++] = buildColumn(entry.getKey(), entry.getValue(), headClazz, readSheetHolder);
+        }
+        this.converterContext = new ReadConverterContext<>(null, null, context);
+    }
+
+    private ExcelReadColumnPlan buildColumn(
+            Integer columnIndex, Head head, Class<?> headClazz, ReadSheetHolder readSheetHolder) {
+        String fieldName = head.getFieldName();
+        ExcelContentProperty contentProperty = ClassUtils.declaredBeanExcelContentProperty(
+                beanAccessor.getBeanClass(), headClazz, fieldName, readSheetHolder);
+        Class<?> fieldClass = head.getField() == null ? String.class : head.getField().getType();
+        boolean cellDataField = fieldClass == CellData.class || fieldClass == ReadCellData.class;
+        Class<?> convertClass = cellDataField ? ConverterUtils.getClassGeneric(head.getField(), null) : fieldClass;
+
+        Converter<?>[] converters = new Converter<?>[CELL_DATA_TYPES.length];
+        Converter<?> customConverter = contentProperty == null ? null : contentProperty.getConverter();
+        boolean found = customConverter != null;
+        Map<ConverterKey, Converter<?>> converterMap = readSheetHolder.converterMap();
+        for (CellDataTypeEnum type : CELL_DATA_TYPES) {
+            if (customConverter != null) {
+                converters[type.ordinal()] = customConverter;
+                continue;
+            }
+            Converter<?> converter = converterMap.get(ConverterKeyBuild.buildKey(convertClass, type));
+            converters[type.ordinal()] = converter;
+            found |= converter != null;
+        }
+        if (!found) {
+            log.warn(
+                    "No converter can convert cells to {}, column {} mapped to the field '{}' of {} can only be empty.",
+                    convertClass.getName(),
+                    columnIndex,
+                    fieldName,
+                    headClazz.getName());
+        }
+        return new ExcelReadColumnPlan(
+                columnIndex,
+                head,
+                fieldClass,
+                convertClass,
+                cellDataField,
+                contentProperty,
+                beanAccessor.getProperty(fieldName),
+                declaredField(fieldName),
+                converters);
+    }
+
+    private Field declaredField(String fieldName) {
+        try {
+            Field field = beanAccessor.getBeanClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException ignore) {
+            return null;
+        }
+    }
+}
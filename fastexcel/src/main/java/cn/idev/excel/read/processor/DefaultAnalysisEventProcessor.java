@@ -12,6 +12,7 @@ import cn.idev.excel.read.listener.ReadListener;
 import cn.idev.excel.read.metadata.holder.ReadRowHolder;
 import cn.idev.excel.read.metadata.holder.ReadSheetHolder;
 import cn.idev.excel.read.metadata.property.ExcelReadHeadProperty;
+import cn.idev.excel.read.metadata.property.ExcelReadPlan;
 import cn.idev.excel.util.BooleanUtils;
 import cn.idev.excel.util.ConverterUtils;
 import cn.idev.excel.util.StringUtils;
@@ -183,5 +184,8 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
             }
         }
         excelHeadPropertyData.setHeadMap(tmpHeadMap);
+        analysisContext
+                .readSheetHolder()
+                .setExcelReadPlan(new ExcelReadPlan(analysisContext.readSheetHolder(), analysisContext));
     }
 }
@@ -0,0 +1,211 @@
+package cn.idev.excel.util;
+
+import cn.idev.excel.exception.ExcelCommonException;
+import cn.idev.excel.metadata.BeanAccessor;
+import cn.idev.excel.metadata.PropertyAccessor;
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Build the {@link BeanAccessor} of a class once, the properties are found the same way as the cglib bean map.
+ * <p>
+ * Public getters, setters and constructors of the classes visible to fastexcel are called through
+ * {@link LambdaMetafactory}, so they are as fast as a direct call. The others are called through a {@link MethodHandle}.
+ *
+ *
+ */
+@Slf4j
+public class BeanAccessorUtils {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Does not keep the class from being unloaded
+     */
+    private static final ClassValue<BeanAccessor> BEAN_ACCESSOR_CACHE = new ClassValue<BeanAccessor>() {
+        @Override
+        protected BeanAccessor computeValue(Class<?> type) {
+            return doGet(type);
+        }
+    };
+
+    private BeanAccessorUtils() {}
+
+    /**
+     * Get the accessor of the class.
+     *
+     * @param clazz bean class
+     * @return accessor
+     */
+    public static BeanAccessor get(Class<?> clazz) {
+        return BEAN_ACCESSOR_CACHE.get(clazz);
+    }
+
+    private static BeanAccessor doGet(Class<?> clazz) {
+        BeanInfo beanInfo;
+        try {
+            beanInfo = Introspector.getBeanInfo(clazz, Object.class);
+        } catch (IntrospectionException e) {
+            throw new ExcelCommonException("Can not read the properties of class:" + clazz.getName(), e);
+        }
+        Map<String, PropertyAccessor> propertyMap = new LinkedHashMap<>();
+        for (PropertyDescriptor propertyDescriptor : beanInfo.getPropertyDescriptors()) {
+            Method readMethod = propertyDescriptor.getReadMethod();
+            Method writeMethod = propertyDescriptor.getWriteMethod();
+            if (readMethod == null && writeMethod == null) {
+                continue;
+            }
+            propertyMap.put(
+                    propertyDescriptor.getName(),
+                    new PropertyAccessor(
+                            propertyDescriptor.getName(),
+                            propertyDescriptor.getPropertyType(),
+                            readMethod == null ? null : getter(clazz, readMethod),
+                            writeMethod == null ? null : setter(clazz, writeMethod)));
+        }
+        return new BeanAccessor(clazz, constructor(clazz), Collections.unmodifiableMap(propertyMap));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> constructor(Class<?> clazz) {
+        if (canSpin(clazz) && !Modifier.isAbstract(clazz.getModifiers())) {
+            try {
+                Constructor<?> constructor = clazz.getConstructor();
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+                CallSite callSite = LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "get",
+                        MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class),
+                        handle,
+                        MethodType.methodType(clazz));
+                return (Supplier<Object>) callSite.getTarget().invokeExact();
+            } catch (NoSuchMethodException ignore) {
+                // no public constructor, the exception is thrown when creating the instance
+            } catch (Throwable e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Can not spin the constructor of {}, use reflection.", clazz.getName(), e);
+                }
+            }
+        }
+        return () -> {
+            try {
+                return clazz.getDeclaredConstructor().newInstance();
+            } catch (Exception e) {
+                throw new ExcelCommonException("Can not instance class: " + clazz.getName(), e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Class<?> clazz, Method method) {
+        MethodHandle handle = unreflect(method);
+        if (canSpin(clazz) && canSpin(method)) {
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "apply",
+                        MethodType.methodType(Function.class),
+                        GETTER_TYPE,
+                        handle,
+                        handle.type().wrap());
+                return (Function<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Can not spin the getter {}, use method handle.", method, e);
+                }
+            }
+        }
+        MethodHandle genericHandle = handle.asType(GETTER_TYPE);
+        return bean -> {
+            try {
+                return genericHandle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ExcelCommonException("Can not invoke getter: " + method, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Class<?> clazz, Method method) {
+        MethodHandle handle = unreflect(method);
+        if (canSpin(clazz) && canSpin(method)) {
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        SETTER_TYPE,
+                        handle,
+                        handle.type().wrap().changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Can not spin the setter {}, use method handle.", method, e);
+                }
+            }
+        }
+        MethodHandle genericHandle = handle.asType(SETTER_TYPE);
+        return (bean, value) -> {
+            try {
+                genericHandle.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ExcelCommonException("Can not invoke setter: " + method, e);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ExcelCommonException("Can not access method: " + method, e);
+        }
+    }
+
+    private static boolean canSpin(Method method) {
+        return Modifier.isPublic(method.getModifiers()) && canSpin(method.getDeclaringClass());
+    }
+
+    /**
+     * The generated class is defined next to fastexcel, so the bean class must be public and visible from the class
+     * loader of fastexcel.
+     */
+    private static boolean canSpin(Class<?> clazz) {
+        if (!Modifier.isPublic(clazz.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(clazz.getName(), false, BeanAccessorUtils.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
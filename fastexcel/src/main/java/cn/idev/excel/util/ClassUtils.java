@@ -112,6 +112,20 @@ public class ClassUtils {
         return getExcelContentProperty(clazz, headClazz, fieldName, configurationHolder);
     }
 
+    /**
+     * Calculate the configuration information for the class, same as
+     * {@link #declaredExcelContentProperty(Map, Class, String, ConfigurationHolder)} without a bean map.
+     *
+     * @param beanClazz the class of the bean, can be a subclass of the head class
+     * @param headClazz
+     * @param fieldName
+     * @return
+     */
+    public static ExcelContentProperty declaredBeanExcelContentProperty(
+            Class<?> beanClazz, Class<?> headClazz, String fieldName, ConfigurationHolder configurationHolder) {
+        return getExcelContentProperty(beanClazz, headClazz, fieldName, configurationHolder);
+    }
+
     private static ExcelContentProperty getExcelContentProperty(
             Class<?> clazz, Class<?> headClass, String fieldName, ConfigurationHolder configurationHolder) {
         switch (configurationHolder.globalConfiguration().getFiledCacheLocation()) {
@@ -12,6 +12,7 @@ import cn.idev.excel.metadata.data.CellData;
 import cn.idev.excel.metadata.data.ReadCellData;
 import cn.idev.excel.metadata.property.ExcelContentProperty;
 import cn.idev.excel.read.metadata.holder.ReadSheetHolder;
+import cn.idev.excel.read.metadata.property.ExcelReadColumnPlan;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -146,7 +147,14 @@ public class ConverterUtils {
         return doConvertToJavaObject(cellData, clazz, contentProperty, converterMap, context, rowIndex, columnIndex);
     }
 
-    private static Class<?> getClassGeneric(Field field, Class<?> classGeneric) {
+    /**
+     * Get the generic type of the cell data field
+     *
+     * @param field
+     * @param classGeneric specified generic type, nullable
+     * @return
+     */
+    public static Class<?> getClassGeneric(Field field, Class<?> classGeneric) {
         if (classGeneric != null) {
             return classGeneric;
         }
@@ -201,6 +209,70 @@ public class ConverterUtils {
         if (converter == null) {
             converter = converterMap.get(ConverterKeyBuild.buildKey(clazz, cellData.getType()));
         }
+        return doConvert(
+                converter,
+                cellData,
+                clazz,
+                contentProperty,
+                new ReadConverterContext<>(cellData, contentProperty, context),
+                rowIndex,
+                columnIndex);
+    }
+
+    /**
+     * Convert it into a Java object with the resolved column plan
+     *
+     * @param cellData
+     * @param columnPlan
+     * @param converterContext reused context, the cell data and content property are replaced
+     * @param rowIndex
+     * @return
+     */
+    public static Object convertToJavaObject(
+            ReadCellData<?> cellData,
+            ExcelReadColumnPlan columnPlan,
+            ReadConverterContext<Object> converterContext,
+            Integer rowIndex) {
+        if (columnPlan.isCellDataField()) {
+            ReadCellData<Object> cellDataReturn = cellData.clone();
+            cellDataReturn.setData(doConvertToJavaObject(cellData, columnPlan, converterContext, rowIndex));
+            return cellDataReturn;
+        }
+        return doConvertToJavaObject(cellData, columnPlan, converterContext, rowIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object doConvertToJavaObject(
+            ReadCellData<?> cellData,
+            ExcelReadColumnPlan columnPlan,
+            ReadConverterContext<Object> converterContext,
+            Integer rowIndex) {
+        ExcelContentProperty contentProperty = columnPlan.getContentProperty();
+        boolean canNotConverterEmpty = cellData.getType() == CellDataTypeEnum.EMPTY
+                && !(contentProperty != null && contentProperty.getConverter() instanceof NullableObjectConverter);
+        if (canNotConverterEmpty) {
+            return null;
+        }
+        converterContext.setReadCellData((ReadCellData<Object>) cellData);
+        converterContext.setContentProperty(contentProperty);
+        return doConvert(
+                columnPlan.getConverter(cellData.getType()),
+                cellData,
+                columnPlan.getConvertClass(),
+                contentProperty,
+                converterContext,
+                rowIndex,
+                columnPlan.getColumnIndex());
+    }
+
+    private static Object doConvert(
+            Converter<?> converter,
+            ReadCellData<?> cellData,
+            Class<?> clazz,
+            ExcelContentProperty contentProperty,
+            ReadConverterContext<?> converterContext,
+            Integer rowIndex,
+            Integer columnIndex) {
         if (converter == null) {
             throw new ExcelDataConvertException(
                     rowIndex,
@@ -212,7 +284,7 @@ public class ConverterUtils {
         }
 
         try {
-            return converter.convertToJavaData(new ReadConverterContext<>(cellData, contentProperty, context));
+            return converter.convertToJavaData(converterContext);
         } catch (Exception e) {
             throw new ExcelDataConvertException(
                     rowIndex,
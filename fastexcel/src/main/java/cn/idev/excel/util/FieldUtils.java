@@ -20,6 +20,7 @@
 package cn.idev.excel.util;
 
 import cn.idev.excel.metadata.NullObject;
+import cn.idev.excel.metadata.PropertyAccessor;
 import cn.idev.excel.support.cglib.beans.BeanMap;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -41,6 +42,13 @@ public class FieldUtils {
         return getFieldClass(value);
     }
 
+    public static Class<?> getFieldClass(PropertyAccessor propertyAccessor, Object value) {
+        if (propertyAccessor != null && propertyAccessor.getType() != null) {
+            return propertyAccessor.getType();
+        }
+        return getFieldClass(value);
+    }
+
     public static Class<?> getFieldClass(Object value) {
         if (value != null) {
             return value.getClass();
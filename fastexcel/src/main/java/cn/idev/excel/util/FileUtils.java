@@ -27,7 +27,11 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.UUID;
 import org.apache.poi.util.TempFile;
 
@@ -52,7 +56,13 @@ public class FileUtils {
      */
     private static String cachePath = tempFilePrefix + EX_CACHE + File.separator;
 
-    private static final int WRITE_BUFF_SIZE = 8192;
+    private static final int WRITE_BUFF_SIZE = 64 * 1024;
+    /**
+     * {@code sun.misc.Unsafe#invokeCleaner} since java 9, null on java 8
+     */
+    private static final Method INVOKE_CLEANER;
+
+    private static final Object UNSAFE;
 
     private FileUtils() {}
 
@@ -64,6 +74,20 @@ public class FileUtils {
         // Initialize the cache directory
         File cacheFile = new File(cachePath);
         createDirectory(cacheFile);
+
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            invokeCleaner = null;
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
     }
 
     /**
@@ -128,9 +152,13 @@ public class FileUtils {
      * @param closeInputStream closeInputStream
      */
     public static void writeToFile(File file, InputStream inputStream, boolean closeInputStream) {
-        OutputStream outputStream = null;
+        FileOutputStream outputStream = null;
         try {
             outputStream = new FileOutputStream(file);
+            if (inputStream instanceof FileInputStream) {
+                transferTo(((FileInputStream) inputStream).getChannel(), outputStream.getChannel());
+                return;
+            }
             int bytesRead;
             byte[] buffer = new byte[WRITE_BUFF_SIZE];
             while ((bytesRead = inputStream.read(buffer, 0, WRITE_BUFF_SIZE)) != -1) {
@@ -156,6 +184,23 @@ public class FileUtils {
         }
     }
 
+    /**
+     * A file is copied by the channels, the kernel moves the bytes without going through the heap.
+     * The source is left at its end like after reading it.
+     */
+    private static void transferTo(FileChannel source, FileChannel target) throws IOException {
+        long position = source.position();
+        long size = source.size();
+        while (position < size) {
+            long count = source.transferTo(position, size - position, target);
+            if (count <= 0) {
+                break;
+            }
+            position += count;
+        }
+        source.position(position);
+    }
+
     public static void createPoiFilesDirectory() {
         TempFile.setTempFileCreationStrategy(new FastExcelTempFileCreationStrategy());
     }
@@ -202,6 +247,32 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Release the mapping now instead of when the buffer is collected, the buffer must not be used afterwards. It is
+     * left to the garbage collector if the jdk does not allow it.
+     *
+     * @param mappedBuffer
+     */
+    public static void unmap(MappedByteBuffer mappedBuffer) {
+        if (mappedBuffer == null) {
+            return;
+        }
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, mappedBuffer);
+                return;
+            }
+            // Java 8
+            Method cleanerMethod = mappedBuffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(mappedBuffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignore) {
+        }
+    }
+
     public static String getTempFilePrefix() {
         return tempFilePrefix;
     }
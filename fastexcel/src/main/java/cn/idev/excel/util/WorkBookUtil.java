@@ -3,6 +3,7 @@ package cn.idev.excel.util;
 import cn.idev.excel.metadata.csv.CsvWorkbook;
 import cn.idev.excel.metadata.data.DataFormatData;
 import cn.idev.excel.metadata.data.WriteCellData;
+import cn.idev.excel.metadata.xlsx.MemorySXSSFWorkbook;
 import cn.idev.excel.write.metadata.holder.WriteWorkbookHolder;
 import cn.idev.excel.write.metadata.style.WriteCellStyle;
 import java.io.IOException;
@@ -36,11 +37,19 @@ public class WorkBookUtil {
                     if (writeWorkbookHolder.getInMemory()) {
                         writeWorkbookHolder.setWorkbook(xssfWorkbook);
                     } else {
-                        writeWorkbookHolder.setWorkbook(new SXSSFWorkbook(xssfWorkbook));
+                        writeWorkbookHolder.setWorkbook(
+                                writeWorkbookHolder.getUseTempFile()
+                                        ? new SXSSFWorkbook(xssfWorkbook)
+                                        : new MemorySXSSFWorkbook(xssfWorkbook));
                     }
                     return;
                 }
-                Workbook workbook = writeWorkbookHolder.getInMemory() ? new XSSFWorkbook() : new SXSSFWorkbook();
+                Workbook workbook;
+                if (writeWorkbookHolder.getInMemory()) {
+                    workbook = new XSSFWorkbook();
+                } else {
+                    workbook = writeWorkbookHolder.getUseTempFile() ? new SXSSFWorkbook() : new MemorySXSSFWorkbook();
+                }
                 Boolean use1904windowing =
                         writeWorkbookHolder.getGlobalConfiguration().getUse1904windowing();
                 if (use1904windowing != null) {
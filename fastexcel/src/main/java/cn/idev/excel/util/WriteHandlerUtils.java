@@ -3,6 +3,7 @@ package cn.idev.excel.util;
 import cn.idev.excel.context.WriteContext;
 import cn.idev.excel.metadata.Head;
 import cn.idev.excel.metadata.property.ExcelContentProperty;
+import cn.idev.excel.write.handler.WriteHandler;
 import cn.idev.excel.write.handler.chain.CellHandlerExecutionChain;
 import cn.idev.excel.write.handler.chain.RowHandlerExecutionChain;
 import cn.idev.excel.write.handler.chain.SheetHandlerExecutionChain;
@@ -12,6 +13,7 @@ import cn.idev.excel.write.handler.context.RowWriteHandlerContext;
 import cn.idev.excel.write.handler.context.SheetWriteHandlerContext;
 import cn.idev.excel.write.handler.context.WorkbookWriteHandlerContext;
 import cn.idev.excel.write.metadata.holder.AbstractWriteHolder;
+import java.lang.reflect.Method;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
 
@@ -25,6 +27,23 @@ public class WriteHandlerUtils {
 
     private WriteHandlerUtils() {}
 
+    /**
+     * Whether the handler implements a hook of the handler interface, either version of the hook counts.
+     *
+     * @param handler          handler
+     * @param handlerInterface the interface declaring the hook
+     * @param methodName       name of the hook
+     * @return implemented
+     */
+    public static boolean implemented(WriteHandler handler, Class<?> handlerInterface, String methodName) {
+        for (Method method : handler.getClass().getMethods()) {
+            if (method.getName().equals(methodName) && method.getDeclaringClass() != handlerInterface) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static WorkbookWriteHandlerContext createWorkbookWriteHandlerContext(WriteContext writeContext) {
         WorkbookWriteHandlerContext context =
                 new WorkbookWriteHandlerContext(writeContext, writeContext.writeWorkbookHolder());
@@ -139,7 +158,7 @@ public class WriteHandlerUtils {
     public static void beforeCellCreate(CellWriteHandlerContext context) {
         CellHandlerExecutionChain cellHandlerExecutionChain =
                 ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getCellHandlerExecutionChain();
-        if (cellHandlerExecutionChain != null) {
+        if (cellHandlerExecutionChain != null && cellHandlerExecutionChain.isBeforeCellCreateUsed()) {
             cellHandlerExecutionChain.beforeCellCreate(context);
         }
     }
@@ -147,7 +166,7 @@ public class WriteHandlerUtils {
     public static void afterCellCreate(CellWriteHandlerContext context) {
         CellHandlerExecutionChain cellHandlerExecutionChain =
                 ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getCellHandlerExecutionChain();
-        if (cellHandlerExecutionChain != null) {
+        if (cellHandlerExecutionChain != null && cellHandlerExecutionChain.isAfterCellCreateUsed()) {
             cellHandlerExecutionChain.afterCellCreate(context);
         }
     }
@@ -155,7 +174,7 @@ public class WriteHandlerUtils {
     public static void afterCellDataConverted(CellWriteHandlerContext context) {
         CellHandlerExecutionChain cellHandlerExecutionChain =
                 ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getCellHandlerExecutionChain();
-        if (cellHandlerExecutionChain != null) {
+        if (cellHandlerExecutionChain != null && cellHandlerExecutionChain.isAfterCellDataConvertedUsed()) {
             cellHandlerExecutionChain.afterCellDataConverted(context);
         }
     }
@@ -163,7 +182,7 @@ public class WriteHandlerUtils {
     public static void afterCellDispose(CellWriteHandlerContext context) {
         CellHandlerExecutionChain cellHandlerExecutionChain =
                 ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getCellHandlerExecutionChain();
-        if (cellHandlerExecutionChain != null) {
+        if (cellHandlerExecutionChain != null && cellHandlerExecutionChain.isAfterCellDisposeUsed()) {
             cellHandlerExecutionChain.afterCellDispose(context);
         }
     }
@@ -184,7 +203,7 @@ public class WriteHandlerUtils {
     public static void beforeRowCreate(RowWriteHandlerContext context) {
         RowHandlerExecutionChain rowHandlerExecutionChain =
                 ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getRowHandlerExecutionChain();
-        if (rowHandlerExecutionChain != null) {
+        if (rowHandlerExecutionChain != null && rowHandlerExecutionChain.isBeforeRowCreateUsed()) {
             rowHandlerExecutionChain.beforeRowCreate(context);
         }
     }
@@ -192,7 +211,7 @@ public class WriteHandlerUtils {
     public static void afterRowCreate(RowWriteHandlerContext context) {
         RowHandlerExecutionChain rowHandlerExecutionChain =
                 ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getRowHandlerExecutionChain();
-        if (rowHandlerExecutionChain != null) {
+        if (rowHandlerExecutionChain != null && rowHandlerExecutionChain.isAfterRowCreateUsed()) {
             rowHandlerExecutionChain.afterRowCreate(context);
         }
     }
@@ -200,7 +219,7 @@ public class WriteHandlerUtils {
     public static void afterRowDispose(RowWriteHandlerContext context) {
         RowHandlerExecutionChain rowHandlerExecutionChain =
                 ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getRowHandlerExecutionChain();
-        if (rowHandlerExecutionChain != null) {
+        if (rowHandlerExecutionChain != null && rowHandlerExecutionChain.isAfterRowDisposeUsed()) {
             rowHandlerExecutionChain.afterRowDispose(context);
         }
     }
@@ -2,6 +2,7 @@ package cn.idev.excel.write;
 
 import cn.idev.excel.context.WriteContext;
 import cn.idev.excel.write.merge.OnceAbsoluteMergeStrategy;
+import cn.idev.excel.write.metadata.ColumnBatch;
 import cn.idev.excel.write.metadata.WriteSheet;
 import cn.idev.excel.write.metadata.WriteTable;
 import cn.idev.excel.write.metadata.fill.FillConfig;
@@ -36,6 +37,18 @@ public interface ExcelBuilder {
      */
     void addContent(Collection<?> data, WriteSheet writeSheet, WriteTable writeTable);
 
+    /**
+     * WorkBook increase value stored by columns
+     *
+     * @param columnBatch
+     *            data stored by columns
+     * @param writeSheet
+     *            Write the sheet
+     * @param writeTable
+     *            Write the table
+     */
+    void addColumns(ColumnBatch columnBatch, WriteSheet writeSheet, WriteTable writeTable);
+
     /**
      * WorkBook fill value
      *
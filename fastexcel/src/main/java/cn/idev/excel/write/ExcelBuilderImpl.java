@@ -9,6 +9,7 @@ import cn.idev.excel.util.FileUtils;
 import cn.idev.excel.util.WriteHandlerUtils;
 import cn.idev.excel.write.executor.ExcelWriteAddExecutor;
 import cn.idev.excel.write.executor.ExcelWriteFillExecutor;
+import cn.idev.excel.write.metadata.ColumnBatch;
 import cn.idev.excel.write.metadata.WriteSheet;
 import cn.idev.excel.write.metadata.WriteTable;
 import cn.idev.excel.write.metadata.WriteWorkbook;
@@ -67,6 +68,26 @@ public class ExcelBuilderImpl implements ExcelBuilder {
         }
     }
 
+    @Override
+    public void addColumns(ColumnBatch columnBatch, WriteSheet writeSheet, WriteTable writeTable) {
+        try {
+            context.currentSheet(writeSheet, WriteTypeEnum.ADD);
+            context.currentTable(writeTable);
+            if (excelWriteAddExecutor == null) {
+                excelWriteAddExecutor = new ExcelWriteAddExecutor(context);
+            }
+            excelWriteAddExecutor.addColumns(columnBatch);
+            // execute callback after the sheet is written
+            WriteHandlerUtils.afterSheetDispose(context);
+        } catch (RuntimeException e) {
+            finishOnException();
+            throw e;
+        } catch (Throwable e) {
+            finishOnException();
+            throw new ExcelGenerateException(e);
+        }
+    }
+
     @Override
     public void fill(Object data, FillConfig fillConfig, WriteSheet writeSheet) {
         try {
@@ -99,6 +120,14 @@ public class ExcelBuilderImpl implements ExcelBuilder {
     @Override
     public void finish(boolean onException) {
         if (context != null) {
+            if (excelWriteFillExecutor != null && !onException) {
+                try {
+                    excelWriteFillExecutor.finish();
+                } catch (RuntimeException e) {
+                    context.finish(true);
+                    throw e;
+                }
+            }
             context.finish(onException);
         }
     }
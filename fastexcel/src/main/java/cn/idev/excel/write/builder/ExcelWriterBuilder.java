@@ -65,6 +65,49 @@ public class ExcelWriterBuilder extends AbstractExcelWriterParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * Whether the streaming workbook writes the flushed rows to temporary files.Default true.
+     * <p>
+     * If false the flushed rows are kept deflated in memory and the file is written without any temporary file, which
+     * avoids the disk I/O but holds the compressed rows of every sheet until the end.
+     */
+    public ExcelWriterBuilder useTempFile(Boolean useTempFile) {
+        writeWorkbook.setUseTempFile(useTempFile);
+        return this;
+    }
+
+    /**
+     * The number of threads converting the rows to cell data at the same time.Default is 1.
+     * <p>
+     * If greater than 1 the rows of a large write are converted in batches by a pool and set to the cells in order by
+     * the writing thread, so the converters must be thread safe. Not used when a handler implements
+     * {@code beforeCellCreate} or {@code afterCellCreate}.
+     */
+    public ExcelWriterBuilder convertParallelism(Integer convertParallelism) {
+        writeWorkbook.setConvertParallelism(convertParallelism);
+        return this;
+    }
+
+    /**
+     * The number of threads loading the images of the urls and files ahead of the conversion.Default is 0, the images
+     * are loaded by the converters.
+     * <p>
+     * The loaded images are cached by the url or the path, see {@code ImagePrefetcher}.
+     */
+    public ExcelWriterBuilder imagePrefetchParallelism(Integer imagePrefetchParallelism) {
+        writeWorkbook.setImagePrefetchParallelism(imagePrefetchParallelism);
+        return this;
+    }
+
+    /**
+     * Bytes of the prefetched images kept in the cache, the least recently used images are dropped beyond it.Default
+     * is 64MB.
+     */
+    public ExcelWriterBuilder imagePrefetchCacheBytes(Long imagePrefetchCacheBytes) {
+        writeWorkbook.setImagePrefetchCacheBytes(imagePrefetchCacheBytes);
+        return this;
+    }
+
     public ExcelWriterBuilder excelType(ExcelTypeEnum excelType) {
         writeWorkbook.setExcelType(excelType);
         return this;
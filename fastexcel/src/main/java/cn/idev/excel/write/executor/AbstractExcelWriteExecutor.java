@@ -16,7 +16,6 @@ import cn.idev.excel.metadata.property.ExcelContentProperty;
 import cn.idev.excel.support.ExcelTypeEnum;
 import cn.idev.excel.util.DateUtils;
 import cn.idev.excel.util.FileTypeUtils;
-import cn.idev.excel.util.ListUtils;
 import cn.idev.excel.util.StyleUtil;
 import cn.idev.excel.util.WorkBookUtil;
 import cn.idev.excel.util.WriteHandlerUtils;
@@ -52,9 +51,17 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
      * @param cellWriteHandlerContext context
      */
     protected void converterAndSet(CellWriteHandlerContext cellWriteHandlerContext) {
+        setCellData(cellWriteHandlerContext, convert(cellWriteHandlerContext));
+    }
 
-        WriteCellData<?> cellData = convert(cellWriteHandlerContext);
-        cellWriteHandlerContext.setCellDataList(ListUtils.newArrayList(cellData));
+    /**
+     * Set the converted data into the cell
+     *
+     * @param cellWriteHandlerContext context
+     * @param cellData                converted data
+     */
+    protected void setCellData(CellWriteHandlerContext cellWriteHandlerContext, WriteCellData<?> cellData) {
+        // The cell data list is built by the context when a handler asks for it
         cellWriteHandlerContext.setFirstCellData(cellData);
 
         WriteHandlerUtils.afterCellDataConverted(cellWriteHandlerContext);
@@ -87,7 +94,11 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
                 cell.setCellValue(cellData.getBooleanValue());
                 return;
             case NUMBER:
-                cell.setCellValue(cellData.getNumberValue().doubleValue());
+                if (cellData instanceof PrimitiveNumberCellData) {
+                    cell.setCellValue(((PrimitiveNumberCellData) cellData).doubleValue());
+                } else {
+                    cell.setCellValue(cellData.getNumberValue().doubleValue());
+                }
                 return;
             case DATE:
                 cell.setCellValue(cellData.getDateValue());
@@ -338,11 +349,15 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
                     "Can not find 'Converter' support class "
                             + cellWriteHandlerContext.getOriginalFieldClass().getSimpleName() + ".");
         }
+        WriteConverterContext<Object> writeConverterContext = new WriteConverterContext<>(
+                cellWriteHandlerContext.getOriginalValue(), excelContentProperty, writeContext);
+        ImagePrefetcher imagePrefetcher = writeContext.writeWorkbookHolder().getImagePrefetcher();
+        if (imagePrefetcher != null) {
+            writeConverterContext.setPrefetchedBytes(imagePrefetcher.get(cellWriteHandlerContext.getOriginalValue()));
+        }
         WriteCellData<?> cellData;
         try {
-            cellData = ((Converter<Object>) converter)
-                    .convertToExcelData(new WriteConverterContext<>(
-                            cellWriteHandlerContext.getOriginalValue(), excelContentProperty, writeContext));
+            cellData = ((Converter<Object>) converter).convertToExcelData(writeConverterContext);
         } catch (Exception e) {
             throw new ExcelWriteDataConvertException(
                     cellWriteHandlerContext,
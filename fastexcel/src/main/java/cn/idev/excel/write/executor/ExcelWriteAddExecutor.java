@@ -1,29 +1,50 @@
 package cn.idev.excel.write.executor;
 
 import cn.idev.excel.context.WriteContext;
+import cn.idev.excel.converters.Converter;
+import cn.idev.excel.converters.ConverterKeyBuild;
+import cn.idev.excel.converters.file.FileImageConverter;
+import cn.idev.excel.converters.url.UrlImageConverter;
+import cn.idev.excel.enums.CellDataTypeEnum;
 import cn.idev.excel.enums.HeadKindEnum;
+import cn.idev.excel.exception.ExcelGenerateException;
+import cn.idev.excel.metadata.BeanAccessor;
 import cn.idev.excel.metadata.FieldCache;
 import cn.idev.excel.metadata.FieldWrapper;
 import cn.idev.excel.metadata.Head;
+import cn.idev.excel.metadata.PropertyAccessor;
+import cn.idev.excel.metadata.data.WriteCellData;
 import cn.idev.excel.metadata.property.ExcelContentProperty;
-import cn.idev.excel.support.cglib.beans.BeanMap;
-import cn.idev.excel.util.BeanMapUtils;
+import cn.idev.excel.util.BeanAccessorUtils;
 import cn.idev.excel.util.ClassUtils;
+import cn.idev.excel.util.DateUtils;
 import cn.idev.excel.util.FieldUtils;
+import cn.idev.excel.util.StringUtils;
 import cn.idev.excel.util.WorkBookUtil;
 import cn.idev.excel.util.WriteHandlerUtils;
+import cn.idev.excel.write.handler.chain.CellHandlerExecutionChain;
 import cn.idev.excel.write.handler.context.CellWriteHandlerContext;
 import cn.idev.excel.write.handler.context.RowWriteHandlerContext;
 import cn.idev.excel.write.metadata.CollectionRowData;
+import cn.idev.excel.write.metadata.ColumnBatch;
 import cn.idev.excel.write.metadata.MapRowData;
 import cn.idev.excel.write.metadata.RowData;
+import cn.idev.excel.write.metadata.holder.AbstractWriteHolder;
 import cn.idev.excel.write.metadata.holder.WriteHolder;
 import cn.idev.excel.write.metadata.holder.WriteSheetHolder;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
@@ -34,6 +55,10 @@ import org.apache.poi.ss.usermodel.Row;
  *
  */
 public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
+    /**
+     * Number of rows converted by a task of the pool
+     */
+    private static final int CONVERT_BATCH_SIZE = 512;
 
     public ExcelWriteAddExecutor(WriteContext writeContext) {
         super(writeContext);
@@ -49,14 +74,327 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
                 && !writeSheetHolder.getExcelWriteHeadProperty().hasHead()) {
             newRowIndex += writeContext.currentWriteHolder().relativeHeadRowIndex();
         }
+        if (convertInParallel(data)) {
+            parallelAdd(data, newRowIndex);
+            return;
+        }
+        List<?> prefetchList = prefetchList(data);
         int relativeRowIndex = 0;
         for (Object oneRowData : data) {
+            if (prefetchList != null && relativeRowIndex % CONVERT_BATCH_SIZE == 0) {
+                // Load the images of the next batch while this one is written
+                int fromIndex = relativeRowIndex == 0 ? 0 : relativeRowIndex + CONVERT_BATCH_SIZE;
+                prefetchImages(
+                        prefetchList,
+                        fromIndex,
+                        Math.min(relativeRowIndex + CONVERT_BATCH_SIZE * 2, prefetchList.size()));
+            }
             int lastRowIndex = relativeRowIndex + newRowIndex;
             addOneRowOfDataToExcel(oneRowData, lastRowIndex, relativeRowIndex);
             relativeRowIndex++;
         }
     }
 
+    /**
+     * The rows are converted on a pool when there are enough of them, and no handler can change the context between
+     * the creation of a cell and the conversion.
+     */
+    private boolean convertInParallel(Collection<?> data) {
+        if (writeContext.writeWorkbookHolder().getConvertParallelism() <= 1 || data.size() <= CONVERT_BATCH_SIZE) {
+            return false;
+        }
+        CellHandlerExecutionChain cellHandlerExecutionChain =
+                ((AbstractWriteHolder) writeContext.currentWriteHolder()).getCellHandlerExecutionChain();
+        return cellHandlerExecutionChain == null
+                || (!cellHandlerExecutionChain.isBeforeCellCreateUsed()
+                        && !cellHandlerExecutionChain.isAfterCellCreateUsed());
+    }
+
+    /**
+     * Convert the rows in batches on a pool, and set them to the cells on this thread in order.
+     */
+    private void parallelAdd(Collection<?> data, int newRowIndex) {
+        int parallelism = writeContext.writeWorkbookHolder().getConvertParallelism();
+        ImagePrefetcher imagePrefetcher = writeContext.writeWorkbookHolder().getImagePrefetcher();
+        ExecutorService executorService = writeContext.writeWorkbookHolder().getConvertExecutorService();
+        Deque<Future<List<ConvertedRow>>> pendingBatches = new ArrayDeque<>();
+        try {
+            List<Object> batch = new ArrayList<>(CONVERT_BATCH_SIZE);
+            int relativeRowIndex = 0;
+            for (Object oneRowData : data) {
+                batch.add(oneRowData);
+                relativeRowIndex++;
+                if (batch.size() < CONVERT_BATCH_SIZE) {
+                    continue;
+                }
+                List<Object> currentBatch = batch;
+                int firstRelativeRowIndex = relativeRowIndex - batch.size();
+                if (imagePrefetcher != null) {
+                    prefetchImages(currentBatch, 0, currentBatch.size());
+                }
+                pendingBatches.add(executorService.submit(
+                        () -> convertBatch(currentBatch, newRowIndex, firstRelativeRowIndex)));
+                batch = new ArrayList<>(CONVERT_BATCH_SIZE);
+                // Bound the memory to a few batches per thread
+                if (pendingBatches.size() >= parallelism * 2) {
+                    addBatch(pendingBatches.poll());
+                }
+            }
+            if (!batch.isEmpty()) {
+                List<Object> currentBatch = batch;
+                int firstRelativeRowIndex = relativeRowIndex - batch.size();
+                if (imagePrefetcher != null) {
+                    prefetchImages(currentBatch, 0, currentBatch.size());
+                }
+                pendingBatches.add(executorService.submit(
+                        () -> convertBatch(currentBatch, newRowIndex, firstRelativeRowIndex)));
+            }
+            while (!pendingBatches.isEmpty()) {
+                addBatch(pendingBatches.poll());
+            }
+        } finally {
+            for (Future<List<ConvertedRow>> pendingBatch : pendingBatches) {
+                pendingBatch.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * The rows to look for the images in, null if the images are not prefetched.
+     */
+    private List<?> prefetchList(Collection<?> data) {
+        if (writeContext.writeWorkbookHolder().getImagePrefetcher() == null) {
+            return null;
+        }
+        if (data instanceof List && data instanceof RandomAccess) {
+            return (List<?>) data;
+        }
+        return new ArrayList<>(data);
+    }
+
+    /**
+     * Start loading the images of the rows that are converted by the image converters, the converters take them later.
+     */
+    private void prefetchImages(List<?> rows, int fromIndex, int toIndex) {
+        ImagePrefetcher imagePrefetcher = writeContext.writeWorkbookHolder().getImagePrefetcher();
+        Map<ConverterKeyBuild.ConverterKey, Converter<?>> converterMap =
+                writeContext.currentWriteHolder().converterMap();
+        for (int i = fromIndex; i < toIndex; i++) {
+            Object oneRowData = rows.get(i);
+            if (oneRowData == null) {
+                continue;
+            }
+            forEachCell(oneRowData, (head, columnIndex, excelContentProperty, originalValue, originalFieldClass) -> {
+                if (!ImagePrefetcher.support(originalValue)) {
+                    return;
+                }
+                Converter<?> converter = excelContentProperty == null ? null : excelContentProperty.getConverter();
+                if (converter == null) {
+                    converter = converterMap.get(ConverterKeyBuild.buildKey(originalFieldClass));
+                }
+                if (converter instanceof UrlImageConverter || converter instanceof FileImageConverter) {
+                    imagePrefetcher.prefetch(originalValue);
+                }
+            });
+        }
+    }
+
+    /**
+     * Convert a batch of rows, called on the pool. The conversion stops at the first exception.
+     */
+    private List<ConvertedRow> convertBatch(List<Object> batch, int newRowIndex, int firstRelativeRowIndex) {
+        List<ConvertedRow> convertedRowList = new ArrayList<>(batch.size());
+        int relativeRowIndex = firstRelativeRowIndex;
+        for (Object oneRowData : batch) {
+            ConvertedRow convertedRow = new ConvertedRow(relativeRowIndex + newRowIndex, relativeRowIndex++);
+            convertedRowList.add(convertedRow);
+            if (oneRowData == null) {
+                continue;
+            }
+            convertedRow.cellList = new ArrayList<>();
+            try {
+                forEachCell(
+                        oneRowData,
+                        (head, columnIndex, excelContentProperty, originalValue, originalFieldClass) -> {
+                            CellWriteHandlerContext cellWriteHandlerContext =
+                                    WriteHandlerUtils.createCellWriteHandlerContext(
+                                            writeContext,
+                                            null,
+                                            convertedRow.rowIndex,
+                                            head,
+                                            columnIndex,
+                                            convertedRow.relativeRowIndex,
+                                            Boolean.FALSE,
+                                            excelContentProperty);
+                            cellWriteHandlerContext.setOriginalValue(originalValue);
+                            cellWriteHandlerContext.setOriginalFieldClass(originalFieldClass);
+                            cellWriteHandlerContext.setFirstCellData(convert(cellWriteHandlerContext));
+                            convertedRow.cellList.add(cellWriteHandlerContext);
+                        });
+            } catch (RuntimeException e) {
+                convertedRow.exception = e;
+                break;
+            }
+        }
+        return convertedRowList;
+    }
+
+    /**
+     * Add a converted batch, the cells before an exception are added like the sequential write.
+     */
+    private void addBatch(Future<List<ConvertedRow>> future) {
+        List<ConvertedRow> convertedRowList;
+        try {
+            convertedRowList = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelGenerateException("Interrupted while converting the rows.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ExcelGenerateException(e.getCause());
+        }
+        for (ConvertedRow convertedRow : convertedRowList) {
+            if (convertedRow.cellList == null) {
+                continue;
+            }
+            RowWriteHandlerContext rowWriteHandlerContext = WriteHandlerUtils.createRowWriteHandlerContext(
+                    writeContext, convertedRow.rowIndex, convertedRow.relativeRowIndex, Boolean.FALSE);
+            WriteHandlerUtils.beforeRowCreate(rowWriteHandlerContext);
+
+            Row row = WorkBookUtil.createRow(writeContext.writeSheetHolder().getSheet(), convertedRow.rowIndex);
+            rowWriteHandlerContext.setRow(row);
+
+            WriteHandlerUtils.afterRowCreate(rowWriteHandlerContext);
+
+            for (CellWriteHandlerContext cellWriteHandlerContext : convertedRow.cellList) {
+                cellWriteHandlerContext.setRow(row);
+                addCell(cellWriteHandlerContext, cellWriteHandlerContext.getFirstCellData());
+            }
+            if (convertedRow.exception != null) {
+                throw convertedRow.exception;
+            }
+
+            WriteHandlerUtils.afterRowDispose(rowWriteHandlerContext);
+        }
+    }
+
+    /**
+     * Add the data stored by columns, the columns are written like the elements of a {@code List} row.
+     *
+     * @param columnBatch data
+     */
+    public void addColumns(ColumnBatch columnBatch) {
+        WriteSheetHolder writeSheetHolder = writeContext.writeSheetHolder();
+        int newRowIndex = writeSheetHolder.getNewRowIndexAndStartDoWrite();
+        if (writeSheetHolder.isNew()
+                && !writeSheetHolder.getExcelWriteHeadProperty().hasHead()) {
+            newRowIndex += writeContext.currentWriteHolder().relativeHeadRowIndex();
+        }
+        List<Object> columns = columnBatch.getColumns();
+        if (columns.isEmpty()) {
+            return;
+        }
+        // The head and the content property of a column are the same for every row
+        Head[] heads = new Head[columns.size()];
+        int[] columnIndexes = new int[columns.size()];
+        ExcelContentProperty[] excelContentProperties = new ExcelContentProperty[columns.size()];
+        WriteHolder currentWriteHolder = writeContext.currentWriteHolder();
+        int dataIndex = 0;
+        int maxCellIndex = -1;
+        for (Map.Entry<Integer, Head> entry :
+                currentWriteHolder.excelWriteHeadProperty().getHeadMap().entrySet()) {
+            if (dataIndex >= columns.size()) {
+                break;
+            }
+            heads[dataIndex] = entry.getValue();
+            columnIndexes[dataIndex++] = entry.getKey();
+            maxCellIndex = Math.max(maxCellIndex, entry.getKey());
+        }
+        // If there is data, it is written to the next cell
+        while (dataIndex < columns.size()) {
+            columnIndexes[dataIndex++] = ++maxCellIndex;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            excelContentProperties[i] = ClassUtils.declaredExcelContentProperty(
+                    null,
+                    currentWriteHolder.excelWriteHeadProperty().getHeadClazz(),
+                    heads[i] == null ? null : heads[i].getFieldName(),
+                    currentWriteHolder);
+        }
+
+        for (int relativeRowIndex = 0; relativeRowIndex < columnBatch.getRowCount(); relativeRowIndex++) {
+            int rowIndex = relativeRowIndex + newRowIndex;
+            RowWriteHandlerContext rowWriteHandlerContext = WriteHandlerUtils.createRowWriteHandlerContext(
+                    writeContext, rowIndex, relativeRowIndex, Boolean.FALSE);
+            WriteHandlerUtils.beforeRowCreate(rowWriteHandlerContext);
+
+            Row row = WorkBookUtil.createRow(writeSheetHolder.getSheet(), rowIndex);
+            rowWriteHandlerContext.setRow(row);
+
+            WriteHandlerUtils.afterRowCreate(rowWriteHandlerContext);
+
+            for (int i = 0; i < columns.size(); i++) {
+                CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
+                        writeContext,
+                        row,
+                        rowIndex,
+                        heads[i],
+                        columnIndexes[i],
+                        relativeRowIndex,
+                        Boolean.FALSE,
+                        excelContentProperties[i]);
+                WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
+
+                Cell cell = WorkBookUtil.createCell(row, columnIndexes[i]);
+                cellWriteHandlerContext.setCell(cell);
+
+                WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
+
+                setCellData(
+                        cellWriteHandlerContext,
+                        columnCellData(columns.get(i), relativeRowIndex, excelContentProperties[i]));
+
+                WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
+            }
+
+            WriteHandlerUtils.afterRowDispose(rowWriteHandlerContext);
+        }
+    }
+
+    private WriteCellData<?> columnCellData(Object column, int index, ExcelContentProperty excelContentProperty) {
+        WriteCellData<?> cellData;
+        if (column instanceof double[]) {
+            cellData = new PrimitiveNumberCellData(((double[]) column)[index]);
+        } else if (column instanceof long[]) {
+            cellData = new PrimitiveNumberCellData(((long[]) column)[index]);
+        } else if (column instanceof String[]) {
+            String value = ((String[]) column)[index];
+            return value == null ? new WriteCellData<>(CellDataTypeEnum.EMPTY) : new WriteCellData<>(value);
+        } else {
+            LocalDate value = ((LocalDate[]) column)[index];
+            if (value == null) {
+                return new WriteCellData<>(CellDataTypeEnum.EMPTY);
+            }
+            cellData = new WriteCellData<>(value.atTime(0, 0));
+            String format = null;
+            if (excelContentProperty != null && excelContentProperty.getDateTimeFormatProperty() != null) {
+                format = excelContentProperty.getDateTimeFormatProperty().getFormat();
+            }
+            WorkBookUtil.fillDataFormat(cellData, format, DateUtils.defaultLocalDateFormat);
+            return cellData;
+        }
+        if (excelContentProperty != null
+                && excelContentProperty.getNumberFormatProperty() != null
+                && StringUtils.isNotBlank(
+                        excelContentProperty.getNumberFormatProperty().getFormat())) {
+            WorkBookUtil.fillDataFormat(
+                    cellData, excelContentProperty.getNumberFormatProperty().getFormat(), null);
+        }
+        return cellData;
+    }
+
     private void addOneRowOfDataToExcel(Object oneRowData, int rowIndex, int relativeRowIndex) {
         if (oneRowData == null) {
             return;
@@ -70,18 +408,60 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
 
         WriteHandlerUtils.afterRowCreate(rowWriteHandlerContext);
 
+        forEachCell(
+                oneRowData,
+                (head, columnIndex, excelContentProperty, originalValue, originalFieldClass) -> {
+                    CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
+                            writeContext,
+                            row,
+                            rowIndex,
+                            head,
+                            columnIndex,
+                            relativeRowIndex,
+                            Boolean.FALSE,
+                            excelContentProperty);
+                    cellWriteHandlerContext.setOriginalValue(originalValue);
+                    cellWriteHandlerContext.setOriginalFieldClass(originalFieldClass);
+                    addCell(cellWriteHandlerContext, null);
+                });
+
+        WriteHandlerUtils.afterRowDispose(rowWriteHandlerContext);
+    }
+
+    /**
+     * Create the cell and set the data.
+     *
+     * @param cellWriteHandlerContext context with the original value
+     * @param cellData                the converted data, null means it is converted here
+     */
+    private void addCell(CellWriteHandlerContext cellWriteHandlerContext, WriteCellData<?> cellData) {
+        WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
+
+        Cell cell = WorkBookUtil.createCell(cellWriteHandlerContext.getRow(), cellWriteHandlerContext.getColumnIndex());
+        cellWriteHandlerContext.setCell(cell);
+
+        WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
+
+        if (cellData == null) {
+            converterAndSet(cellWriteHandlerContext);
+        } else {
+            setCellData(cellWriteHandlerContext, cellData);
+        }
+
+        WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
+    }
+
+    private void forEachCell(Object oneRowData, CellConsumer cellConsumer) {
         if (oneRowData instanceof Collection<?>) {
-            addBasicTypeToExcel(new CollectionRowData((Collection<?>) oneRowData), row, rowIndex, relativeRowIndex);
+            forEachBasicTypeCell(new CollectionRowData((Collection<?>) oneRowData), cellConsumer);
         } else if (oneRowData instanceof Map) {
-            addBasicTypeToExcel(new MapRowData((Map<Integer, ?>) oneRowData), row, rowIndex, relativeRowIndex);
+            forEachBasicTypeCell(new MapRowData((Map<Integer, ?>) oneRowData), cellConsumer);
         } else {
-            addJavaObjectToExcel(oneRowData, row, rowIndex, relativeRowIndex);
+            forEachJavaObjectCell(oneRowData, cellConsumer);
         }
-
-        WriteHandlerUtils.afterRowDispose(rowWriteHandlerContext);
     }
 
-    private void addBasicTypeToExcel(RowData oneRowData, Row row, int rowIndex, int relativeRowIndex) {
+    private void forEachBasicTypeCell(RowData oneRowData, CellConsumer cellConsumer) {
         if (oneRowData.isEmpty()) {
             return;
         }
@@ -95,7 +475,7 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
             }
             int columnIndex = entry.getKey();
             Head head = entry.getValue();
-            doAddBasicTypeToExcel(oneRowData, head, row, rowIndex, relativeRowIndex, dataIndex++, columnIndex);
+            acceptBasicTypeCell(oneRowData, head, dataIndex++, columnIndex, cellConsumer);
             maxCellIndex = Math.max(maxCellIndex, columnIndex);
         }
         // Finish
@@ -107,47 +487,26 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
 
         int size = oneRowData.size() - dataIndex;
         for (int i = 0; i < size; i++) {
-            doAddBasicTypeToExcel(oneRowData, null, row, rowIndex, relativeRowIndex, dataIndex++, maxCellIndex++);
+            acceptBasicTypeCell(oneRowData, null, dataIndex++, maxCellIndex++, cellConsumer);
         }
     }
 
-    private void doAddBasicTypeToExcel(
-            RowData oneRowData,
-            Head head,
-            Row row,
-            int rowIndex,
-            int relativeRowIndex,
-            int dataIndex,
-            int columnIndex) {
+    private void acceptBasicTypeCell(
+            RowData oneRowData, Head head, int dataIndex, int columnIndex, CellConsumer cellConsumer) {
         ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
                 null,
                 writeContext.currentWriteHolder().excelWriteHeadProperty().getHeadClazz(),
                 head == null ? null : head.getFieldName(),
                 writeContext.currentWriteHolder());
-
-        CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
-                writeContext, row, rowIndex, head, columnIndex, relativeRowIndex, Boolean.FALSE, excelContentProperty);
-        WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
-
-        Cell cell = WorkBookUtil.createCell(row, columnIndex);
-        cellWriteHandlerContext.setCell(cell);
-
-        WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
-
-        cellWriteHandlerContext.setOriginalValue(oneRowData.get(dataIndex));
-        cellWriteHandlerContext.setOriginalFieldClass(
-                FieldUtils.getFieldClass(cellWriteHandlerContext.getOriginalValue()));
-        converterAndSet(cellWriteHandlerContext);
-
-        WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
+        Object originalValue = oneRowData.get(dataIndex);
+        cellConsumer.accept(
+                head, columnIndex, excelContentProperty, originalValue, FieldUtils.getFieldClass(originalValue));
     }
 
-    private void addJavaObjectToExcel(Object oneRowData, Row row, int rowIndex, int relativeRowIndex) {
+    private void forEachJavaObjectCell(Object oneRowData, CellConsumer cellConsumer) {
         WriteHolder currentWriteHolder = writeContext.currentWriteHolder();
-        BeanMap beanMap = BeanMapUtils.create(oneRowData);
-        // Bean the contains of the Map Key method with poor performance,So to create a keySet here
-        Set<String> beanKeySet = new HashSet<>(beanMap.keySet());
-        Set<String> beanMapHandledSet = new HashSet<>();
+        BeanAccessor beanAccessor = BeanAccessorUtils.get(oneRowData.getClass());
+        int handledSize = 0;
         int maxCellIndex = -1;
         // If it's a class it needs to be cast by type
         if (HeadKindEnum.CLASS.equals(
@@ -158,42 +517,40 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
                 int columnIndex = entry.getKey();
                 Head head = entry.getValue();
                 String name = head.getFieldName();
-                if (!beanKeySet.contains(name)) {
+                PropertyAccessor propertyAccessor = beanAccessor.getProperty(name);
+                if (propertyAccessor == null) {
                     continue;
                 }
 
-                ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
-                        beanMap, currentWriteHolder.excelWriteHeadProperty().getHeadClazz(), name, currentWriteHolder);
-                CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
-                        writeContext,
-                        row,
-                        rowIndex,
+                ExcelContentProperty excelContentProperty = ClassUtils.declaredBeanExcelContentProperty(
+                        beanAccessor.getBeanClass(),
+                        currentWriteHolder.excelWriteHeadProperty().getHeadClazz(),
+                        name,
+                        currentWriteHolder);
+                cellConsumer.accept(
                         head,
                         columnIndex,
-                        relativeRowIndex,
-                        Boolean.FALSE,
-                        excelContentProperty);
-                WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
-
-                Cell cell = WorkBookUtil.createCell(row, columnIndex);
-                cellWriteHandlerContext.setCell(cell);
-
-                WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
-
-                cellWriteHandlerContext.setOriginalValue(beanMap.get(name));
-                cellWriteHandlerContext.setOriginalFieldClass(head.getField().getType());
-                converterAndSet(cellWriteHandlerContext);
-
-                WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
+                        excelContentProperty,
+                        propertyAccessor.get(oneRowData),
+                        head.getField().getType());
 
-                beanMapHandledSet.add(name);
+                handledSize++;
                 maxCellIndex = Math.max(maxCellIndex, columnIndex);
             }
         }
         // Finish
-        if (beanMapHandledSet.size() == beanMap.size()) {
+        if (handledSize == beanAccessor.size()) {
             return;
         }
+        Set<String> beanMapHandledSet = new HashSet<>();
+        if (handledSize > 0) {
+            for (Head head :
+                    currentWriteHolder.excelWriteHeadProperty().getHeadMap().values()) {
+                if (beanAccessor.getProperty(head.getFieldName()) != null) {
+                    beanMapHandledSet.add(head.getFieldName());
+                }
+            }
+        }
         maxCellIndex++;
 
         FieldCache fieldCache = ClassUtils.declaredFields(oneRowData.getClass(), writeContext.currentWriteHolder());
@@ -201,36 +558,57 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
                 fieldCache.getSortedFieldMap().entrySet()) {
             FieldWrapper field = entry.getValue();
             String fieldName = field.getFieldName();
-            boolean uselessData = !beanKeySet.contains(fieldName) || beanMapHandledSet.contains(fieldName);
+            PropertyAccessor propertyAccessor = beanAccessor.getProperty(fieldName);
+            boolean uselessData = propertyAccessor == null || beanMapHandledSet.contains(fieldName);
             if (uselessData) {
                 continue;
             }
-            Object value = beanMap.get(fieldName);
-            ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
-                    beanMap, currentWriteHolder.excelWriteHeadProperty().getHeadClazz(), fieldName, currentWriteHolder);
-            CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
-                    writeContext,
-                    row,
-                    rowIndex,
+            Object value = propertyAccessor.get(oneRowData);
+            ExcelContentProperty excelContentProperty = ClassUtils.declaredBeanExcelContentProperty(
+                    beanAccessor.getBeanClass(),
+                    currentWriteHolder.excelWriteHeadProperty().getHeadClazz(),
+                    fieldName,
+                    currentWriteHolder);
+            // If there is data, it is written to the next cell
+            cellConsumer.accept(
                     null,
                     maxCellIndex,
-                    relativeRowIndex,
-                    Boolean.FALSE,
-                    excelContentProperty);
-            WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
+                    excelContentProperty,
+                    value,
+                    FieldUtils.getFieldClass(propertyAccessor, value));
+            maxCellIndex++;
+        }
+    }
 
-            // If there is data, it is written to the next cell
-            Cell cell = WorkBookUtil.createCell(row, maxCellIndex);
-            cellWriteHandlerContext.setCell(cell);
+    /**
+     * Receive the cells of a row in the order they are written
+     */
+    private interface CellConsumer {
+        void accept(
+                Head head,
+                int columnIndex,
+                ExcelContentProperty excelContentProperty,
+                Object originalValue,
+                Class<?> originalFieldClass);
+    }
 
-            WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
+    /**
+     * The cells of a row converted on the pool
+     */
+    private static class ConvertedRow {
+        private final int rowIndex;
 
-            cellWriteHandlerContext.setOriginalValue(value);
-            cellWriteHandlerContext.setOriginalFieldClass(FieldUtils.getFieldClass(beanMap, fieldName, value));
-            converterAndSet(cellWriteHandlerContext);
+        private final int relativeRowIndex;
+        /**
+         * Contexts holding the converted data, null if the row is null
+         */
+        private List<CellWriteHandlerContext> cellList;
 
-            WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
-            maxCellIndex++;
+        private RuntimeException exception;
+
+        private ConvertedRow(int rowIndex, int relativeRowIndex) {
+            this.rowIndex = rowIndex;
+            this.relativeRowIndex = relativeRowIndex;
         }
     }
 }
@@ -7,8 +7,6 @@ import cn.idev.excel.enums.WriteTemplateAnalysisCellTypeEnum;
 import cn.idev.excel.exception.ExcelGenerateException;
 import cn.idev.excel.metadata.data.WriteCellData;
 import cn.idev.excel.metadata.property.ExcelContentProperty;
-import cn.idev.excel.util.BeanMapUtils;
-import cn.idev.excel.util.ClassUtils;
 import cn.idev.excel.util.FieldUtils;
 import cn.idev.excel.util.ListUtils;
 import cn.idev.excel.util.MapUtils;
@@ -18,7 +16,9 @@ import cn.idev.excel.util.WriteHandlerUtils;
 import cn.idev.excel.write.handler.context.CellWriteHandlerContext;
 import cn.idev.excel.write.handler.context.RowWriteHandlerContext;
 import cn.idev.excel.write.metadata.fill.AnalysisCell;
+import cn.idev.excel.write.metadata.fill.FillCellPlan;
 import cn.idev.excel.write.metadata.fill.FillConfig;
+import cn.idev.excel.write.metadata.fill.FillPlan;
 import cn.idev.excel.write.metadata.fill.FillWrapper;
 import cn.idev.excel.write.metadata.holder.WriteSheetHolder;
 import java.util.ArrayList;
@@ -41,6 +41,9 @@ import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 /**
  * Fill the data into excel
@@ -78,10 +81,26 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
     private final Map<UniqueDataFlagKey, Map<AnalysisCell, Integer>> collectionLastIndexCache = MapUtils.newHashMap();
 
     private final Map<UniqueDataFlagKey, Integer> relativeRowIndexMap = MapUtils.newHashMap();
+    /**
+     * Fill plans of the fields
+     */
+    private final Map<UniqueDataFlagKey, FillPlan> fillPlanCache = MapUtils.newHashMap();
+    /**
+     * Fill plans of the collection fields
+     */
+    private final Map<UniqueDataFlagKey, FillPlan> collectionFillPlanCache = MapUtils.newHashMap();
+    /**
+     * Sheets whose list is filled into the streaming sheet, the key has no wrapper name
+     */
+    private final Map<UniqueDataFlagKey, StreamingFillSheet> streamingFillSheetMap = MapUtils.newHashMap();
     /**
      * The unique data encoding for this fill
      */
     private UniqueDataFlagKey currentUniqueDataFlag;
+    /**
+     * The streaming sheet of this fill, null if the new rows are not streamed
+     */
+    private StreamingFillSheet currentStreamingFillSheet;
 
     public ExcelWriteFillExecutor(WriteContext writeContext) {
         super(writeContext);
@@ -109,6 +128,7 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
             currentDataPrefix = null;
         }
         currentUniqueDataFlag = uniqueDataFlag(writeContext.writeSheetHolder(), currentDataPrefix);
+        currentStreamingFillSheet = null;
 
         // processing data
         if (realData instanceof Collection) {
@@ -119,13 +139,18 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
             }
             Iterator<?> iterator = collectionData.iterator();
             if (WriteDirectionEnum.VERTICAL.equals(fillConfig.getDirection()) && fillConfig.getForceNewRow()) {
-                shiftRows(collectionData.size(), analysisCellList);
+                if (fillConfig.getStreaming()
+                        && writeContext.writeWorkbookHolder().getWorkbook() instanceof SXSSFWorkbook) {
+                    streamRows(collectionData.size(), analysisCellList);
+                } else {
+                    shiftRows(collectionData.size(), analysisCellList);
+                }
             }
             while (iterator.hasNext()) {
-                doFill(analysisCellList, iterator.next(), fillConfig, getRelativeRowIndex());
+                doFill(analysisCellList, collectionFillPlanCache, iterator.next(), fillConfig, getRelativeRowIndex());
             }
         } else {
-            doFill(readTemplateData(templateAnalysisCache), realData, fillConfig, null);
+            doFill(readTemplateData(templateAnalysisCache), fillPlanCache, realData, fillConfig, null);
         }
     }
 
@@ -169,6 +194,175 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
         increaseRowIndex(templateCollectionAnalysisCache, number, maxRowIndex);
     }
 
+    /**
+     * Instead of shifting the rows below the list, count how far they are moved down when finishing.
+     */
+    private void streamRows(int size, List<AnalysisCell> analysisCellList) {
+        if (CollectionUtils.isEmpty(analysisCellList)) {
+            return;
+        }
+        WriteSheetHolder writeSheetHolder = writeContext.writeSheetHolder();
+        UniqueDataFlagKey sheetKey = uniqueDataFlag(writeSheetHolder, null);
+        StreamingFillSheet streamingFillSheet = streamingFillSheetMap.get(sheetKey);
+        if (streamingFillSheet == null) {
+            int maxRowIndex = 0;
+            for (AnalysisCell analysisCell : analysisCellList) {
+                if (analysisCell.getRowIndex() > maxRowIndex) {
+                    maxRowIndex = analysisCell.getRowIndex();
+                }
+            }
+            Sheet cachedSheet = writeSheetHolder.getCachedSheet();
+            int lastRowIndex = cachedSheet.getLastRowNum();
+            streamingFillSheet = new StreamingFillSheet(
+                    currentUniqueDataFlag,
+                    writeSheetHolder.getSheet(),
+                    cachedSheet,
+                    maxRowIndex,
+                    lastRowIndex,
+                    0,
+                    detachRows(cachedSheet, maxRowIndex + 1, lastRowIndex));
+            streamingFillSheetMap.put(sheetKey, streamingFillSheet);
+        } else if (!streamingFillSheet.getUniqueDataFlag().equals(currentUniqueDataFlag)) {
+            throw new ExcelGenerateException("Only one list per sheet can be filled with 'streaming'.");
+        }
+        int number = size;
+        if (collectionLastIndexCache.get(currentUniqueDataFlag) == null) {
+            number--;
+        }
+        streamingFillSheet.setMovedRowNumber(streamingFillSheet.getMovedRowNumber() + number);
+        currentStreamingFillSheet = streamingFillSheet;
+    }
+
+    /**
+     * Move the template rows below the list to a temporary sheet of the template workbook, a streamed row must come
+     * after the last row of the template.
+     */
+    private Sheet detachRows(Sheet cachedSheet, int firstRowIndex, int lastRowIndex) {
+        Workbook workbook = cachedSheet.getWorkbook();
+        int index = workbook.getNumberOfSheets();
+        String sheetName;
+        do {
+            sheetName = "fastexcel-fill-" + index++;
+        } while (workbook.getSheet(sheetName) != null);
+        Sheet detachedSheet = workbook.createSheet(sheetName);
+        for (int i = firstRowIndex; i <= lastRowIndex; i++) {
+            Row row = cachedSheet.getRow(i);
+            if (row == null) {
+                continue;
+            }
+            copyRow(row, detachedSheet.createRow(i));
+            cachedSheet.removeRow(row);
+        }
+        return detachedSheet;
+    }
+
+    /**
+     * The temporary sheet holding a template row below a streamed list of the current sheet.
+     *
+     * @return sheet, null if the row is not below a streamed list or it is a row of the list
+     */
+    private Sheet detachedSheet(int rowIndex) {
+        if (currentStreamingFillSheet != null || streamingFillSheetMap.isEmpty()) {
+            return null;
+        }
+        StreamingFillSheet streamingFillSheet =
+                streamingFillSheetMap.get(uniqueDataFlag(writeContext.writeSheetHolder(), null));
+        if (streamingFillSheet == null
+                || rowIndex <= streamingFillSheet.getCollectionRowIndex()
+                || rowIndex > streamingFillSheet.getLastRowIndex()) {
+            return null;
+        }
+        return streamingFillSheet.getDetachedSheet();
+    }
+
+    /**
+     * Move the rows below the streamed lists to their final place, must be called before the workbook is written.
+     */
+    public void finish() {
+        for (StreamingFillSheet streamingFillSheet : streamingFillSheetMap.values()) {
+            moveRows(streamingFillSheet);
+        }
+        streamingFillSheetMap.clear();
+        currentStreamingFillSheet = null;
+    }
+
+    private void moveRows(StreamingFillSheet streamingFillSheet) {
+        int number = streamingFillSheet.getMovedRowNumber();
+        int firstRowIndex = streamingFillSheet.getCollectionRowIndex() + 1;
+        int lastRowIndex = streamingFillSheet.getLastRowIndex();
+        Sheet sheet = streamingFillSheet.getSheet();
+        Sheet cachedSheet = streamingFillSheet.getCachedSheet();
+        Sheet detachedSheet = streamingFillSheet.getDetachedSheet();
+        // The rows are after the streamed rows, even if the list has only one row
+        for (Row row : detachedSheet) {
+            copyRow(row, sheet.createRow(row.getRowNum() + Math.max(number, 0)));
+        }
+        Workbook workbook = detachedSheet.getWorkbook();
+        workbook.removeSheetAt(workbook.getSheetIndex(detachedSheet));
+        if (number <= 0 || firstRowIndex > lastRowIndex) {
+            return;
+        }
+
+        List<Integer> mergedRegionIndexList = ListUtils.newArrayList();
+        List<CellRangeAddress> movedMergedRegionList = ListUtils.newArrayList();
+        List<CellRangeAddress> mergedRegionList = cachedSheet.getMergedRegions();
+        for (int i = 0; i < mergedRegionList.size(); i++) {
+            CellRangeAddress mergedRegion = mergedRegionList.get(i);
+            if (mergedRegion.getFirstRow() < firstRowIndex || mergedRegion.getLastRow() > lastRowIndex) {
+                continue;
+            }
+            mergedRegionIndexList.add(i);
+            movedMergedRegionList.add(new CellRangeAddress(
+                    mergedRegion.getFirstRow() + number,
+                    mergedRegion.getLastRow() + number,
+                    mergedRegion.getFirstColumn(),
+                    mergedRegion.getLastColumn()));
+        }
+        if (mergedRegionIndexList.isEmpty()) {
+            return;
+        }
+        cachedSheet.removeMergedRegions(mergedRegionIndexList);
+        for (CellRangeAddress mergedRegion : movedMergedRegionList) {
+            cachedSheet.addMergedRegionUnsafe(mergedRegion);
+        }
+    }
+
+    private void copyRow(Row row, Row newRow) {
+        if (PoiUtils.customHeight(row)) {
+            newRow.setHeight(row.getHeight());
+        }
+        newRow.setZeroHeight(row.getZeroHeight());
+        if (row.isFormatted()) {
+            newRow.setRowStyle(row.getRowStyle());
+        }
+        for (Cell cell : row) {
+            copyCell(cell, newRow.createCell(cell.getColumnIndex()));
+        }
+    }
+
+    private void copyCell(Cell cell, Cell newCell) {
+        newCell.setCellStyle(cell.getCellStyle());
+        switch (cell.getCellType()) {
+            case STRING:
+                newCell.setCellValue(cell.getRichStringCellValue());
+                break;
+            case NUMERIC:
+                newCell.setCellValue(cell.getNumericCellValue());
+                break;
+            case BOOLEAN:
+                newCell.setCellValue(cell.getBooleanCellValue());
+                break;
+            case FORMULA:
+                newCell.setCellFormula(cell.getCellFormula());
+                break;
+            case ERROR:
+                newCell.setCellErrorValue(cell.getErrorCellValue());
+                break;
+            default:
+                break;
+        }
+    }
+
     private void increaseRowIndex(
             Map<UniqueDataFlagKey, List<AnalysisCell>> templateAnalysisCache, int number, int maxRowIndex) {
         for (Map.Entry<UniqueDataFlagKey, List<AnalysisCell>> entry : templateAnalysisCache.entrySet()) {
@@ -186,22 +380,21 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
     }
 
     private void doFill(
-            List<AnalysisCell> analysisCellList, Object oneRowData, FillConfig fillConfig, Integer relativeRowIndex) {
+            List<AnalysisCell> analysisCellList,
+            Map<UniqueDataFlagKey, FillPlan> fillPlanCache,
+            Object oneRowData,
+            FillConfig fillConfig,
+            Integer relativeRowIndex) {
         if (CollectionUtils.isEmpty(analysisCellList) || oneRowData == null) {
             return;
         }
-        Map dataMap;
-        if (oneRowData instanceof Map) {
-            dataMap = (Map) oneRowData;
-        } else {
-            dataMap = BeanMapUtils.create(oneRowData);
-        }
-        Set<String> dataKeySet = new HashSet<>(dataMap.keySet());
+        FillPlan fillPlan = fillPlan(analysisCellList, fillPlanCache, oneRowData);
 
         RowWriteHandlerContext rowWriteHandlerContext =
                 WriteHandlerUtils.createRowWriteHandlerContext(writeContext, null, relativeRowIndex, Boolean.FALSE);
 
-        for (AnalysisCell analysisCell : analysisCellList) {
+        for (FillCellPlan cellPlan : fillPlan.getCells()) {
+            AnalysisCell analysisCell = cellPlan.getAnalysisCell();
             CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
                     writeContext,
                     null,
@@ -213,24 +406,13 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
                     ExcelContentProperty.EMPTY);
 
             if (analysisCell.getOnlyOneVariable()) {
-                String variable = analysisCell.getVariableList().get(0);
-                Object value = null;
-                if (dataKeySet.contains(variable)) {
-                    value = dataMap.get(variable);
-                }
-                ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
-                        dataMap,
-                        writeContext
-                                .currentWriteHolder()
-                                .excelWriteHeadProperty()
-                                .getHeadClazz(),
-                        variable,
-                        writeContext.currentWriteHolder());
-                cellWriteHandlerContext.setExcelContentProperty(excelContentProperty);
+                Object value = fillPlan.getValue(cellPlan, 0, oneRowData);
+                cellWriteHandlerContext.setExcelContentProperty(cellPlan.getContentProperties()[0]);
 
                 createCell(analysisCell, fillConfig, cellWriteHandlerContext, rowWriteHandlerContext);
                 cellWriteHandlerContext.setOriginalValue(value);
-                cellWriteHandlerContext.setOriginalFieldClass(FieldUtils.getFieldClass(dataMap, variable, value));
+                cellWriteHandlerContext.setOriginalFieldClass(
+                        FieldUtils.getFieldClass(cellPlan.getPropertyAccessors()[0], value));
 
                 converterAndSet(cellWriteHandlerContext);
                 WriteCellData<?> cellData = cellWriteHandlerContext.getFirstCellData();
@@ -242,9 +424,11 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
                             .ifPresent(cellData::setOriginCellStyle);
                 }
             } else {
-                StringBuilder cellValueBuild = new StringBuilder();
-                int index = 0;
-                List<WriteCellData<?>> cellDataList = new ArrayList<>();
+                String[] variables = cellPlan.getVariables();
+                String[] prepareData = cellPlan.getPrepareData();
+                StringBuilder cellValueBuild =
+                        new StringBuilder(cellPlan.getPrepareDataLength() + 16 * variables.length);
+                List<WriteCellData<?>> cellDataList = new ArrayList<>(variables.length);
 
                 cellWriteHandlerContext.setExcelContentProperty(ExcelContentProperty.EMPTY);
                 cellWriteHandlerContext.setIgnoreFillStyle(Boolean.TRUE);
@@ -252,23 +436,13 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
                 createCell(analysisCell, fillConfig, cellWriteHandlerContext, rowWriteHandlerContext);
                 Cell cell = cellWriteHandlerContext.getCell();
 
-                for (String variable : analysisCell.getVariableList()) {
-                    cellValueBuild.append(analysisCell.getPrepareDataList().get(index++));
-                    Object value = null;
-                    if (dataKeySet.contains(variable)) {
-                        value = dataMap.get(variable);
-                    }
-                    ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
-                            dataMap,
-                            writeContext
-                                    .currentWriteHolder()
-                                    .excelWriteHeadProperty()
-                                    .getHeadClazz(),
-                            variable,
-                            writeContext.currentWriteHolder());
+                for (int i = 0; i < variables.length; i++) {
+                    cellValueBuild.append(prepareData[i]);
+                    Object value = fillPlan.getValue(cellPlan, i, oneRowData);
                     cellWriteHandlerContext.setOriginalValue(value);
-                    cellWriteHandlerContext.setOriginalFieldClass(FieldUtils.getFieldClass(dataMap, variable, value));
-                    cellWriteHandlerContext.setExcelContentProperty(excelContentProperty);
+                    cellWriteHandlerContext.setOriginalFieldClass(
+                            FieldUtils.getFieldClass(cellPlan.getPropertyAccessors()[i], value));
+                    cellWriteHandlerContext.setExcelContentProperty(cellPlan.getContentProperties()[i]);
                     cellWriteHandlerContext.setTargetCellDataType(CellDataTypeEnum.STRING);
 
                     WriteCellData<?> cellData = convert(cellWriteHandlerContext);
@@ -291,7 +465,7 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
                         }
                     }
                 }
-                cellValueBuild.append(analysisCell.getPrepareDataList().get(index));
+                cellValueBuild.append(prepareData[variables.length]);
                 cell.setCellValue(cellValueBuild.toString());
                 cellWriteHandlerContext.setCellDataList(cellDataList);
                 if (CollectionUtils.isNotEmpty(cellDataList)) {
@@ -314,6 +488,20 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
         }
     }
 
+    /**
+     * Get the plan of the current data flag, it is built again when the class of the data changes.
+     */
+    private FillPlan fillPlan(
+            List<AnalysisCell> analysisCellList, Map<UniqueDataFlagKey, FillPlan> fillPlanCache, Object oneRowData) {
+        Class<?> headClazz = writeContext.currentWriteHolder().excelWriteHeadProperty().getHeadClazz();
+        FillPlan fillPlan = fillPlanCache.get(currentUniqueDataFlag);
+        if (fillPlan == null || !fillPlan.support(oneRowData, headClazz)) {
+            fillPlan = new FillPlan(analysisCellList, oneRowData, headClazz, writeContext.currentWriteHolder());
+            fillPlanCache.put(currentUniqueDataFlag, fillPlan);
+        }
+        return fillPlan;
+    }
+
     private Integer getRelativeRowIndex() {
         Integer relativeRowIndex = relativeRowIndexMap.get(currentUniqueDataFlag);
         if (relativeRowIndex == null) {
@@ -332,6 +520,11 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
             RowWriteHandlerContext rowWriteHandlerContext) {
         Sheet cachedSheet = writeContext.writeSheetHolder().getCachedSheet();
         if (WriteTemplateAnalysisCellTypeEnum.COMMON.equals(analysisCell.getCellType())) {
+            // The template rows below a streamed list are filled in the temporary sheet until they are moved
+            Sheet detachedSheet = detachedSheet(analysisCell.getRowIndex());
+            if (detachedSheet != null) {
+                cachedSheet = detachedSheet;
+            }
             Row row = cachedSheet.getRow(analysisCell.getRowIndex());
             cellWriteHandlerContext.setRow(row);
             Cell cell = row.getCell(analysisCell.getColumnIndex());
@@ -420,12 +613,17 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
             rowWriteHandlerContext.setRow(row);
             return row;
         }
-        row = cachedSheet.getRow(lastRowIndex);
+        // The template rows below the list are still in the cached sheet, streamed rows must not reuse them
+        boolean streamingRow = currentStreamingFillSheet != null
+                && lastRowIndex > currentStreamingFillSheet.getCollectionRowIndex();
+        row = streamingRow ? null : cachedSheet.getRow(lastRowIndex);
         if (row == null) {
             rowWriteHandlerContext.setRowIndex(lastRowIndex);
             WriteHandlerUtils.beforeRowCreate(rowWriteHandlerContext);
 
-            if (fillConfig.getForceNewRow()) {
+            if (streamingRow) {
+                row = sheet.createRow(lastRowIndex);
+            } else if (fillConfig.getForceNewRow()) {
                 row = cachedSheet.createRow(lastRowIndex);
             } else {
                 // The last row of the middle disk inside empty rows, resulting in cachedSheet can not get inside.
@@ -654,4 +852,29 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
         private String sheetName;
         private String wrapperName;
     }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    private static class StreamingFillSheet {
+        private UniqueDataFlagKey uniqueDataFlag;
+        private Sheet sheet;
+        private Sheet cachedSheet;
+        /**
+         * The last template row of the list
+         */
+        private int collectionRowIndex;
+        /**
+         * The last template row
+         */
+        private int lastRowIndex;
+        /**
+         * Number of rows the template rows below the list are moved down
+         */
+        private int movedRowNumber;
+        /**
+         * Temporary sheet holding the template rows below the list until they are moved
+         */
+        private Sheet detachedSheet;
+    }
 }
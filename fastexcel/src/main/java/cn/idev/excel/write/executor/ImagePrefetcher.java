@@ -0,0 +1,202 @@
+package cn.idev.excel.write.executor;
+
+import cn.idev.excel.converters.url.UrlImageConverter;
+import cn.idev.excel.util.FileUtils;
+import cn.idev.excel.util.IoUtils;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load the images of the rows about to be written ahead of the conversion.
+ * <p>
+ * The urls and files are loaded on a bounded pool, and the loaded bytes are passed to the image converters through
+ * {@link cn.idev.excel.converters.WriteConverterContext} instead of loading them one by one on the converting thread.
+ * The bytes are cached by the url or the path of the file, the least recently used images are dropped when the cache
+ * holds more than {@link #maxCacheBytes}. An image that fails to load is dropped too, so its converter loads it again
+ * and throws the same exception as without the prefetch.
+ *
+ *
+ */
+public class ImagePrefetcher implements Closeable {
+    /**
+     * Default bytes of the loaded images kept in the cache.unit byte.
+     */
+    private static final long DEFAULT_MAX_CACHE_BYTES = 64L * 1024 * 1024;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final ExecutorService executorService;
+    /**
+     * Bytes of the loaded images kept in the cache.unit byte.
+     */
+    private final long maxCacheBytes;
+    /**
+     * Images by the url or the file, in the access order
+     */
+    private final Map<Object, ImageEntry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long cacheBytes;
+
+    private boolean closed;
+
+    /**
+     * @param parallelism   number of the loading threads
+     * @param maxCacheBytes bytes of the loaded images kept in the cache, null means 64MB
+     */
+    public ImagePrefetcher(int parallelism, Long maxCacheBytes) {
+        this.maxCacheBytes = maxCacheBytes == null || maxCacheBytes < 0 ? DEFAULT_MAX_CACHE_BYTES : maxCacheBytes;
+        this.executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "fastexcel-image-loader-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Whether the value can be prefetched.
+     *
+     * @param value value of a cell
+     * @return support
+     */
+    public static boolean support(Object value) {
+        return value instanceof URL || value instanceof File;
+    }
+
+    /**
+     * Start loading the image if it is not cached or loading.
+     *
+     * @param value url or file
+     */
+    public void prefetch(Object value) {
+        Object key = key(value);
+        if (key == null) {
+            return;
+        }
+        synchronized (cache) {
+            if (closed || cache.containsKey(key)) {
+                return;
+            }
+            ImageEntry imageEntry = new ImageEntry();
+            cache.put(key, imageEntry);
+            imageEntry.future = executorService.submit(() -> load(key, imageEntry, value));
+        }
+    }
+
+    /**
+     * Get the bytes of an image, waits if it is still loading.
+     *
+     * @param value url or file
+     * @return bytes, null if the image is not prefetched or failed to load
+     */
+    public byte[] get(Object value) {
+        Object key = key(value);
+        if (key == null) {
+            return null;
+        }
+        ImageEntry imageEntry;
+        synchronized (cache) {
+            imageEntry = cache.get(key);
+        }
+        if (imageEntry == null) {
+            return null;
+        }
+        try {
+            return imageEntry.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | CancellationException e) {
+            synchronized (cache) {
+                cache.remove(key, imageEntry);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (cache) {
+            closed = true;
+            cache.clear();
+            cacheBytes = 0;
+        }
+        executorService.shutdownNow();
+    }
+
+    private byte[] load(Object key, ImageEntry imageEntry, Object value) throws IOException {
+        byte[] bytes;
+        if (value instanceof URL) {
+            bytes = loadUrl((URL) value);
+        } else {
+            bytes = FileUtils.readFileToByteArray((File) value);
+        }
+        synchronized (cache) {
+            // Dropped while loading
+            if (cache.get(key) != imageEntry) {
+                return bytes;
+            }
+            imageEntry.size = bytes.length;
+            cacheBytes += bytes.length;
+            evict(imageEntry);
+        }
+        return bytes;
+    }
+
+    /**
+     * Drop the least recently used images that are loaded, the images still loading are kept.
+     */
+    private void evict(ImageEntry current) {
+        Iterator<ImageEntry> iterator = cache.values().iterator();
+        while (cacheBytes > maxCacheBytes && iterator.hasNext()) {
+            ImageEntry imageEntry = iterator.next();
+            if (imageEntry == current || imageEntry.size < 0) {
+                continue;
+            }
+            cacheBytes -= imageEntry.size;
+            iterator.remove();
+        }
+    }
+
+    private byte[] loadUrl(URL url) throws IOException {
+        URLConnection urlConnection = url.openConnection();
+        urlConnection.setConnectTimeout(UrlImageConverter.urlConnectTimeout);
+        urlConnection.setReadTimeout(UrlImageConverter.urlReadTimeout);
+        try (InputStream inputStream = urlConnection.getInputStream()) {
+            return IoUtils.toByteArray(inputStream);
+        }
+    }
+
+    /**
+     * The url is compared by its text, {@link URL#equals(Object)} resolves the host.
+     */
+    private Object key(Object value) {
+        if (value instanceof URL) {
+            return ((URL) value).toExternalForm();
+        }
+        if (value instanceof File) {
+            return value;
+        }
+        return null;
+    }
+
+    private static class ImageEntry {
+        private Future<byte[]> future;
+        /**
+         * Size of the loaded bytes, -1 while loading
+         */
+        private long size = -1;
+    }
+}
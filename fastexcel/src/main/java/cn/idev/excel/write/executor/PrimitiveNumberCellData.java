@@ -0,0 +1,56 @@
+package cn.idev.excel.write.executor;
+
+import cn.idev.excel.enums.CellDataTypeEnum;
+import cn.idev.excel.metadata.data.WriteCellData;
+import java.math.BigDecimal;
+
+/**
+ * A number written from a primitive value.
+ * <p>
+ * The value is set to the cell as a {@code double}, the {@link BigDecimal} is only built when a handler asks for it.
+ *
+ *
+ */
+class PrimitiveNumberCellData extends WriteCellData<Object> {
+    private final double doubleValue;
+    /**
+     * Build the number from {@link #longValue}
+     */
+    private final boolean longNumber;
+
+    private final long longValue;
+
+    PrimitiveNumberCellData(double doubleValue) {
+        super(CellDataTypeEnum.NUMBER);
+        this.doubleValue = doubleValue;
+        this.longNumber = false;
+        this.longValue = 0L;
+    }
+
+    PrimitiveNumberCellData(long longValue) {
+        super(CellDataTypeEnum.NUMBER);
+        this.doubleValue = longValue;
+        this.longNumber = true;
+        this.longValue = longValue;
+    }
+
+    @Override
+    public BigDecimal getNumberValue() {
+        BigDecimal numberValue = super.getNumberValue();
+        if (numberValue == null) {
+            numberValue = longNumber ? BigDecimal.valueOf(longValue) : BigDecimal.valueOf(doubleValue);
+            setNumberValue(numberValue);
+        }
+        return numberValue;
+    }
+
+    /**
+     * The value to be set to the cell, a number set by a handler wins.
+     *
+     * @return value
+     */
+    double doubleValue() {
+        BigDecimal numberValue = super.getNumberValue();
+        return numberValue == null ? doubleValue : numberValue.doubleValue();
+    }
+}
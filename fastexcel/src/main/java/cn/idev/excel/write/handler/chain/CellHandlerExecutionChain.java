@@ -1,5 +1,6 @@
 package cn.idev.excel.write.handler.chain;
 
+import cn.idev.excel.util.WriteHandlerUtils;
 import cn.idev.excel.write.handler.CellWriteHandler;
 import cn.idev.excel.write.handler.context.CellWriteHandlerContext;
 import lombok.EqualsAndHashCode;
@@ -8,6 +9,9 @@ import lombok.Setter;
 
 /**
  * Execute the cell handler chain
+ * <p>
+ * The hooks a handler does not implement are skipped, and a hook that no handler of the rest of the chain implements
+ * is not walked at all.
  *
  *
  */
@@ -23,44 +27,92 @@ public class CellHandlerExecutionChain {
      * handler
      */
     private CellWriteHandler handler;
+    /**
+     * The handler implements the hook
+     */
+    private boolean beforeCellCreateImplemented;
+
+    private boolean afterCellCreateImplemented;
+
+    private boolean afterCellDataConvertedImplemented;
+
+    private boolean afterCellDisposeImplemented;
+    /**
+     * The handler or one of the following handlers implements the hook
+     */
+    private boolean beforeCellCreateUsed;
+
+    private boolean afterCellCreateUsed;
+
+    private boolean afterCellDataConvertedUsed;
+
+    private boolean afterCellDisposeUsed;
 
     public CellHandlerExecutionChain(CellWriteHandler handler) {
         this.handler = handler;
+        this.beforeCellCreateImplemented =
+                WriteHandlerUtils.implemented(handler, CellWriteHandler.class, "beforeCellCreate");
+        this.afterCellCreateImplemented =
+                WriteHandlerUtils.implemented(handler, CellWriteHandler.class, "afterCellCreate");
+        this.afterCellDataConvertedImplemented =
+                WriteHandlerUtils.implemented(handler, CellWriteHandler.class, "afterCellDataConverted");
+        this.afterCellDisposeImplemented =
+                WriteHandlerUtils.implemented(handler, CellWriteHandler.class, "afterCellDispose");
+        this.beforeCellCreateUsed = beforeCellCreateImplemented;
+        this.afterCellCreateUsed = afterCellCreateImplemented;
+        this.afterCellDataConvertedUsed = afterCellDataConvertedImplemented;
+        this.afterCellDisposeUsed = afterCellDisposeImplemented;
     }
 
     public void beforeCellCreate(CellWriteHandlerContext context) {
-        this.handler.beforeCellCreate(context);
-        if (this.next != null) {
+        if (this.beforeCellCreateImplemented) {
+            this.handler.beforeCellCreate(context);
+        }
+        if (this.next != null && this.next.beforeCellCreateUsed) {
             this.next.beforeCellCreate(context);
         }
     }
 
     public void afterCellCreate(CellWriteHandlerContext context) {
-        this.handler.afterCellCreate(context);
-        if (this.next != null) {
+        if (this.afterCellCreateImplemented) {
+            this.handler.afterCellCreate(context);
+        }
+        if (this.next != null && this.next.afterCellCreateUsed) {
             this.next.afterCellCreate(context);
         }
     }
 
     public void afterCellDataConverted(CellWriteHandlerContext context) {
-        this.handler.afterCellDataConverted(context);
-        if (this.next != null) {
+        if (this.afterCellDataConvertedImplemented) {
+            this.handler.afterCellDataConverted(context);
+        }
+        if (this.next != null && this.next.afterCellDataConvertedUsed) {
             this.next.afterCellDataConverted(context);
         }
     }
 
     public void afterCellDispose(CellWriteHandlerContext context) {
-        this.handler.afterCellDispose(context);
-        if (this.next != null) {
+        if (this.afterCellDisposeImplemented) {
+            this.handler.afterCellDispose(context);
+        }
+        if (this.next != null && this.next.afterCellDisposeUsed) {
             this.next.afterCellDispose(context);
         }
     }
 
     public void addLast(CellWriteHandler handler) {
+        CellHandlerExecutionChain last = new CellHandlerExecutionChain(handler);
         CellHandlerExecutionChain context = this;
-        while (context.next != null) {
+        while (true) {
+            context.beforeCellCreateUsed |= last.beforeCellCreateUsed;
+            context.afterCellCreateUsed |= last.afterCellCreateUsed;
+            context.afterCellDataConvertedUsed |= last.afterCellDataConvertedUsed;
+            context.afterCellDisposeUsed |= last.afterCellDisposeUsed;
+            if (context.next == null) {
+                break;
+            }
             context = context.next;
         }
-        context.next = new CellHandlerExecutionChain(handler);
+        context.next = last;
     }
 }
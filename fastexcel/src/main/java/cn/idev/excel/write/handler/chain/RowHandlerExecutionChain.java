@@ -1,5 +1,6 @@
 package cn.idev.excel.write.handler.chain;
 
+import cn.idev.excel.util.WriteHandlerUtils;
 import cn.idev.excel.write.handler.RowWriteHandler;
 import cn.idev.excel.write.handler.context.RowWriteHandlerContext;
 import lombok.EqualsAndHashCode;
@@ -8,6 +9,9 @@ import lombok.Setter;
 
 /**
  * Execute the row handler chain
+ * <p>
+ * The hooks a handler does not implement are skipped, and a hook that no handler of the rest of the chain implements
+ * is not walked at all.
  *
  *
  */
@@ -24,36 +28,75 @@ public class RowHandlerExecutionChain {
      */
     private RowWriteHandler handler;
 
+    /**
+     * The handler implements the hook
+     */
+    private boolean beforeRowCreateImplemented;
+
+    private boolean afterRowCreateImplemented;
+
+    private boolean afterRowDisposeImplemented;
+    /**
+     * The handler or one of the following handlers implements the hook
+     */
+    private boolean beforeRowCreateUsed;
+
+    private boolean afterRowCreateUsed;
+
+    private boolean afterRowDisposeUsed;
+
     public RowHandlerExecutionChain(RowWriteHandler handler) {
         this.handler = handler;
+        this.beforeRowCreateImplemented =
+                WriteHandlerUtils.implemented(handler, RowWriteHandler.class, "beforeRowCreate");
+        this.afterRowCreateImplemented =
+                WriteHandlerUtils.implemented(handler, RowWriteHandler.class, "afterRowCreate");
+        this.afterRowDisposeImplemented =
+                WriteHandlerUtils.implemented(handler, RowWriteHandler.class, "afterRowDispose");
+        this.beforeRowCreateUsed = beforeRowCreateImplemented;
+        this.afterRowCreateUsed = afterRowCreateImplemented;
+        this.afterRowDisposeUsed = afterRowDisposeImplemented;
     }
 
     public void beforeRowCreate(RowWriteHandlerContext context) {
-        this.handler.beforeRowCreate(context);
-        if (this.next != null) {
+        if (this.beforeRowCreateImplemented) {
+            this.handler.beforeRowCreate(context);
+        }
+        if (this.next != null && this.next.beforeRowCreateUsed) {
             this.next.beforeRowCreate(context);
         }
     }
 
     public void afterRowCreate(RowWriteHandlerContext context) {
-        this.handler.afterRowCreate(context);
-        if (this.next != null) {
+        if (this.afterRowCreateImplemented) {
+            this.handler.afterRowCreate(context);
+        }
+        if (this.next != null && this.next.afterRowCreateUsed) {
             this.next.afterRowCreate(context);
         }
     }
 
     public void afterRowDispose(RowWriteHandlerContext context) {
-        this.handler.afterRowDispose(context);
-        if (this.next != null) {
+        if (this.afterRowDisposeImplemented) {
+            this.handler.afterRowDispose(context);
+        }
+        if (this.next != null && this.next.afterRowDisposeUsed) {
             this.next.afterRowDispose(context);
         }
     }
 
     public void addLast(RowWriteHandler handler) {
+        RowHandlerExecutionChain last = new RowHandlerExecutionChain(handler);
         RowHandlerExecutionChain context = this;
-        while (context.next != null) {
+        while (true) {
+            context.beforeRowCreateUsed |= last.beforeRowCreateUsed;
+            context.afterRowCreateUsed |= last.afterRowCreateUsed;
+            context.afterRowDisposeUsed |= last.afterRowDisposeUsed;
+            if (context.next == null) {
+                break;
+            }
             context = context.next;
         }
-        context.next = new RowHandlerExecutionChain(handler);
+        context.next = last;
     }
 }
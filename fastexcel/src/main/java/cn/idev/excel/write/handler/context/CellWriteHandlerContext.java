@@ -5,6 +5,7 @@ import cn.idev.excel.enums.CellDataTypeEnum;
 import cn.idev.excel.metadata.Head;
 import cn.idev.excel.metadata.data.WriteCellData;
 import cn.idev.excel.metadata.property.ExcelContentProperty;
+import cn.idev.excel.util.ListUtils;
 import cn.idev.excel.write.handler.impl.FillStyleCellWriteHandler;
 import cn.idev.excel.write.metadata.holder.WriteSheetHolder;
 import cn.idev.excel.write.metadata.holder.WriteTableHolder;
@@ -137,4 +138,16 @@ public class CellWriteHandlerContext {
         this.head = head;
         this.excelContentProperty = excelContentProperty;
     }
+
+    /**
+     * The list is only built when it is asked for, most cells have just {@link #firstCellData}.
+     *
+     * @return cell data list
+     */
+    public List<WriteCellData<?>> getCellDataList() {
+        if (cellDataList == null && firstCellData != null) {
+            cellDataList = ListUtils.newArrayList(firstCellData);
+        }
+        return cellDataList;
+    }
 }
@@ -40,6 +40,7 @@ public class FillStyleCellWriteHandler implements CellWriteHandler {
         }
         WriteWorkbookHolder writeWorkbookHolder = context.getWriteWorkbookHolder();
         context.getCell()
-                .setCellStyle(writeWorkbookHolder.createCellStyle(writeCellStyle, originCellStyle, cellData.getType()));
+                .setCellStyle(writeWorkbookHolder.createCellStyle(
+                        writeCellStyle, originCellStyle, cellData.getType(), context.getColumnIndex()));
     }
 }
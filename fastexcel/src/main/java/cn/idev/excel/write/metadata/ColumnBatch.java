@@ -0,0 +1,60 @@
+package cn.idev.excel.write.metadata;
+
+import cn.idev.excel.util.ListUtils;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Data stored by columns.
+ * <p>
+ * Every column is an array holding the values of the rows in order, the columns are written from left to right like
+ * the elements of a {@code List} row. The numbers are written to the cells as they are, without boxing them and without
+ * the converters. A {@code null} string or date leaves the cell empty.
+ *
+ *
+ */
+@Getter
+public class ColumnBatch {
+    /**
+     * Number of rows to be written
+     */
+    private final int rowCount;
+    /**
+     * Arrays of the columns, one of {@code double[]}, {@code long[]}, {@code String[]} and {@code LocalDate[]}
+     */
+    private final List<Object> columns;
+
+    public ColumnBatch(int rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("The row count can not be negative.");
+        }
+        this.rowCount = rowCount;
+        this.columns = ListUtils.newArrayList();
+    }
+
+    public ColumnBatch addColumn(double[] column) {
+        return doAddColumn(column, column.length);
+    }
+
+    public ColumnBatch addColumn(long[] column) {
+        return doAddColumn(column, column.length);
+    }
+
+    public ColumnBatch addColumn(String[] column) {
+        return doAddColumn(column, column.length);
+    }
+
+    public ColumnBatch addColumn(LocalDate[] column) {
+        return doAddColumn(column, column.length);
+    }
+
+    private ColumnBatch doAddColumn(Object column, int length) {
+        if (length < rowCount) {
+            throw new IllegalArgumentException(
+                    "The column has " + length + " values, less than the row count " + rowCount + ".");
+        }
+        columns.add(column);
+        return this;
+    }
+}
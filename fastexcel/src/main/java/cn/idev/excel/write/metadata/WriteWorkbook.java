@@ -85,6 +85,33 @@ public class WriteWorkbook extends WriteBasicParameter {
      * Excel is also written in the event of an exception being thrown.The default false.
      */
     private Boolean writeExcelOnException;
+    /**
+     * Whether the streaming workbook writes the flushed rows to temporary files.Default true.
+     * <p>
+     * If false the flushed rows are kept deflated in memory and the file is written without any temporary file, which
+     * avoids the disk I/O but holds the compressed rows of every sheet until the end.
+     */
+    private Boolean useTempFile;
+    /**
+     * The number of threads converting the rows to cell data at the same time.Default is 1.
+     * <p>
+     * If greater than 1 the rows of a large write are converted in batches by a pool and set to the cells in order by
+     * the writing thread, so the converters must be thread safe. Not used when a handler implements
+     * {@code beforeCellCreate} or {@code afterCellCreate}.
+     */
+    private Integer convertParallelism;
+    /**
+     * The number of threads loading the images of the urls and files ahead of the conversion.Default is 0, the images
+     * are loaded by the converters.
+     * <p>
+     * The loaded images are cached by the url or the path, see {@code ImagePrefetcher}.
+     */
+    private Integer imagePrefetchParallelism;
+    /**
+     * Bytes of the prefetched images kept in the cache, the least recently used images are dropped beyond it.Default
+     * is 64MB.
+     */
+    private Long imagePrefetchCacheBytes;
     /**
      * Specifies CSVFormat for parsing.
      * Only work on the CSV file.
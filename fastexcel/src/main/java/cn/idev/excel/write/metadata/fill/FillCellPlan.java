@@ -0,0 +1,40 @@
+package cn.idev.excel.write.metadata.fill;
+
+import cn.idev.excel.metadata.PropertyAccessor;
+import cn.idev.excel.metadata.property.ExcelContentProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * How to fill one template cell, resolved once for the data class.
+ *
+ *
+ */
+@Getter
+@AllArgsConstructor
+public class FillCellPlan {
+    /**
+     * The template cell
+     */
+    private final AnalysisCell analysisCell;
+    /**
+     * Variables in the order of the cell
+     */
+    private final String[] variables;
+    /**
+     * Properties of the variables.The element is null when the data is a map or has no such property.
+     */
+    private final PropertyAccessor[] propertyAccessors;
+    /**
+     * Content properties of the variables
+     */
+    private final ExcelContentProperty[] contentProperties;
+    /**
+     * The text around the variables, one more than the variables
+     */
+    private final String[] prepareData;
+    /**
+     * Total length of the text around the variables
+     */
+    private final int prepareDataLength;
+}
@@ -25,10 +25,20 @@ public class FillConfig {
      * Create a new row each time you use the list parameter.The default create if necessary.
      * <p>
      * Warnning:If you use <code>forceNewRow</code> set true, will not be able to use asynchronous write file, simply
-     * say the whole file will be stored in memory.
+     * say the whole file will be stored in memory, unless <code>streaming</code> is set true.
      */
     private Boolean forceNewRow;
 
+    /**
+     * Write the new rows of a vertical list with <code>forceNewRow</code> to the streaming sheet instead of shifting
+     * the rows below the list in memory. The rows below the list are moved down once when the file is finished.The
+     * default false.
+     * <p>
+     * Only works for xlsx that is not written in memory, otherwise the rows are shifted as before. Only one list per
+     * sheet can be filled this way, and formulas, comments and hyperlinks of the rows below the list are not moved.
+     */
+    private Boolean streaming;
+
     /**
      * Automatically inherit style
      *
@@ -51,6 +61,9 @@ public class FillConfig {
         if (autoStyle == null) {
             autoStyle = Boolean.TRUE;
         }
+        if (streaming == null) {
+            streaming = Boolean.FALSE;
+        }
         hasInit = true;
     }
 }
@@ -0,0 +1,104 @@
+package cn.idev.excel.write.metadata.fill;
+
+import cn.idev.excel.metadata.BeanAccessor;
+import cn.idev.excel.metadata.ConfigurationHolder;
+import cn.idev.excel.metadata.PropertyAccessor;
+import cn.idev.excel.metadata.property.ExcelContentProperty;
+import cn.idev.excel.util.BeanAccessorUtils;
+import cn.idev.excel.util.ClassUtils;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Fill plan of the template cells of one data flag.
+ * <p>
+ * The properties and content properties of every variable are resolved once for the class of the data, so filling a
+ * row does not need to build a bean map or look them up again.
+ *
+ *
+ */
+@Getter
+public class FillPlan {
+    /**
+     * The class of the data the plan is built for
+     */
+    private final Class<?> dataClass;
+    /**
+     * Head class
+     */
+    private final Class<?> headClazz;
+    /**
+     * Accessor of the data class, null if the data is a map
+     */
+    private final BeanAccessor beanAccessor;
+    /**
+     * Cells in the order of the analysis cells
+     */
+    private final FillCellPlan[] cells;
+
+    public FillPlan(
+            List<AnalysisCell> analysisCellList,
+            Object data,
+            Class<?> headClazz,
+            ConfigurationHolder configurationHolder) {
+        this.dataClass = data.getClass();
+        this.headClazz = headClazz;
+        this.beanAccessor = data instanceof Map ? null : BeanAccessorUtils.get(dataClass);
+        this.cells = new FillCellPlan[analysisCellList.size()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = buildCell(analysisCellList.get(i), configurationHolder);
+        }
+    }
+
+    private FillCellPlan buildCell(AnalysisCell analysisCell, ConfigurationHolder configurationHolder) {
+        List<String> variableList = analysisCell.getVariableList();
+        String[] variables = variableList.toArray(new String[0]);
+        PropertyAccessor[] propertyAccessors = new PropertyAccessor[variables.length];
+        ExcelContentProperty[] contentProperties = new ExcelContentProperty[variables.length];
+        Class<?> beanClazz = beanAccessor == null ? null : dataClass;
+        for (int i = 0; i < variables.length; i++) {
+            if (beanAccessor != null) {
+                propertyAccessors[i] = beanAccessor.getProperty(variables[i]);
+            }
+            contentProperties[i] = ClassUtils.declaredBeanExcelContentProperty(
+                    beanClazz, headClazz, variables[i], configurationHolder);
+        }
+        String[] prepareData = analysisCell.getPrepareDataList().toArray(new String[0]);
+        int prepareDataLength = 0;
+        for (String data : prepareData) {
+            prepareDataLength += data.length();
+        }
+        return new FillCellPlan(
+                analysisCell, variables, propertyAccessors, contentProperties, prepareData, prepareDataLength);
+    }
+
+    /**
+     * Whether the plan can fill the data.
+     *
+     * @param data      data of a row
+     * @param headClazz head class
+     * @return support
+     */
+    public boolean support(Object data, Class<?> headClazz) {
+        return data.getClass() == dataClass && headClazz == this.headClazz;
+    }
+
+    /**
+     * Get the value of a variable.
+     *
+     * @param cellPlan cell
+     * @param index    index of the variable in the cell
+     * @param data     data of a row
+     * @return value, null if the data has no such variable
+     */
+    public Object getValue(FillCellPlan cellPlan, int index, Object data) {
+        if (beanAccessor == null) {
+            Map<?, ?> dataMap = (Map<?, ?>) data;
+            String variable = cellPlan.getVariables()[index];
+            return dataMap.containsKey(variable) ? dataMap.get(variable) : null;
+        }
+        PropertyAccessor propertyAccessor = cellPlan.getPropertyAccessors()[index];
+        return propertyAccessor == null ? null : propertyAccessor.get(data);
+    }
+}
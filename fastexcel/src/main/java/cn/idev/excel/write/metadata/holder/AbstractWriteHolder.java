@@ -9,9 +9,11 @@ import cn.idev.excel.event.NotRepeatExecutor;
 import cn.idev.excel.metadata.AbstractHolder;
 import cn.idev.excel.metadata.Head;
 import cn.idev.excel.metadata.property.ExcelContentProperty;
+import cn.idev.excel.metadata.property.FontProperty;
 import cn.idev.excel.metadata.property.LoopMergeProperty;
 import cn.idev.excel.metadata.property.OnceAbsoluteMergeProperty;
 import cn.idev.excel.metadata.property.RowHeightProperty;
+import cn.idev.excel.metadata.property.StyleProperty;
 import cn.idev.excel.write.handler.CellWriteHandler;
 import cn.idev.excel.write.handler.DefaultWriteHandlerLoader;
 import cn.idev.excel.write.handler.RowWriteHandler;
@@ -35,6 +37,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -289,6 +292,18 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
 
     private void dealStyle(List<WriteHandler> handlerList) {
         WriteHandler styleStrategy = new AbstractVerticalCellStyleStrategy() {
+            /**
+             * The styles of the annotations are built once for every head. The map is copied on write, so the writers
+             * of several threads read it without a lock.
+             */
+            private volatile Map<Head, WriteCellStyle> headCellStyleMap = new IdentityHashMap<>();
+            /**
+             * The styles of the annotations are built once for every content style and font, the content properties
+             * themselves can be built again by another thread or for every cell depending on the field cache. Copied
+             * on write like {@link #headCellStyleMap}.
+             */
+            private volatile Map<ContentStyleKey, WriteCellStyle> contentCellStyleMap = new HashMap<>();
+
             @Override
             public int order() {
                 return OrderConstant.ANNOTATION_DEFINE_STYLE;
@@ -300,14 +315,37 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
                 if (head == null) {
                     return null;
                 }
-                return WriteCellStyle.build(head.getHeadStyleProperty(), head.getHeadFontProperty());
+                Map<Head, WriteCellStyle> currentHeadCellStyleMap = headCellStyleMap;
+                WriteCellStyle writeCellStyle = currentHeadCellStyleMap.get(head);
+                if (writeCellStyle == null && !currentHeadCellStyleMap.containsKey(head)) {
+                    writeCellStyle = WriteCellStyle.build(head.getHeadStyleProperty(), head.getHeadFontProperty());
+                    synchronized (this) {
+                        Map<Head, WriteCellStyle> newHeadCellStyleMap = new IdentityHashMap<>(headCellStyleMap);
+                        newHeadCellStyleMap.put(head, writeCellStyle);
+                        headCellStyleMap = newHeadCellStyleMap;
+                    }
+                }
+                return writeCellStyle;
             }
 
             @Override
             protected WriteCellStyle contentCellStyle(CellWriteHandlerContext context) {
                 ExcelContentProperty excelContentProperty = context.getExcelContentProperty();
-                return WriteCellStyle.build(
+                ContentStyleKey contentStyleKey = new ContentStyleKey(
                         excelContentProperty.getContentStyleProperty(), excelContentProperty.getContentFontProperty());
+                Map<ContentStyleKey, WriteCellStyle> currentContentCellStyleMap = contentCellStyleMap;
+                WriteCellStyle writeCellStyle = currentContentCellStyleMap.get(contentStyleKey);
+                if (writeCellStyle == null && !currentContentCellStyleMap.containsKey(contentStyleKey)) {
+                    writeCellStyle = WriteCellStyle.build(
+                            contentStyleKey.getStyleProperty(), contentStyleKey.getFontProperty());
+                    synchronized (this) {
+                        Map<ContentStyleKey, WriteCellStyle> newContentCellStyleMap =
+                                new HashMap<>(contentCellStyleMap);
+                        newContentCellStyleMap.put(contentStyleKey, writeCellStyle);
+                        contentCellStyleMap = newContentCellStyleMap;
+                    }
+                }
+                return writeCellStyle;
             }
         };
         handlerList.add(styleStrategy);
@@ -522,4 +560,20 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
     public Collection<String> excludeColumnFieldNames() {
         return getExcludeColumnFieldNames();
     }
+
+    /**
+     * The content style of the annotations only depends on these properties, which are compared by value.
+     */
+    @Getter
+    @EqualsAndHashCode
+    private static class ContentStyleKey {
+        private final StyleProperty styleProperty;
+
+        private final FontProperty fontProperty;
+
+        private ContentStyleKey(StyleProperty styleProperty, FontProperty fontProperty) {
+            this.styleProperty = styleProperty;
+            this.fontProperty = fontProperty;
+        }
+    }
 }
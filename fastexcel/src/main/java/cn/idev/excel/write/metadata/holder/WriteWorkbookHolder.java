@@ -8,8 +8,8 @@ import cn.idev.excel.support.ExcelTypeEnum;
 import cn.idev.excel.util.DateUtils;
 import cn.idev.excel.util.FileUtils;
 import cn.idev.excel.util.IoUtils;
-import cn.idev.excel.util.MapUtils;
 import cn.idev.excel.util.StyleUtil;
+import cn.idev.excel.write.executor.ImagePrefetcher;
 import cn.idev.excel.write.handler.context.WorkbookWriteHandlerContext;
 import cn.idev.excel.write.metadata.WriteWorkbook;
 import cn.idev.excel.write.metadata.style.WriteCellStyle;
@@ -22,8 +22,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -48,6 +54,8 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 @EqualsAndHashCode
 @Slf4j
 public class WriteWorkbookHolder extends AbstractWriteHolder {
+    private static final AtomicInteger CONVERT_THREAD_NUMBER = new AtomicInteger();
+
     /***
      * Current poi Workbook.This is only for writing, and there may be no data in version 07 when template data needs to
      * be read.
@@ -143,6 +151,32 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
      * Excel is also written in the event of an exception being thrown.The default false.
      */
     private Boolean writeExcelOnException;
+    /**
+     * Whether the streaming workbook writes the flushed rows to temporary files.Default true.
+     * <p>
+     * If false the flushed rows are kept deflated in memory and the file is written without any temporary file, which
+     * avoids the disk I/O but holds the compressed rows of every sheet until the end.
+     */
+    private Boolean useTempFile;
+    /**
+     * The number of threads converting the rows to cell data at the same time.Default is 1.
+     * <p>
+     * If greater than 1 the rows of a large write are converted in batches by a pool and set to the cells in order by
+     * the writing thread, so the converters must be thread safe. Not used when a handler implements
+     * {@code beforeCellCreate} or {@code afterCellCreate}.
+     */
+    private Integer convertParallelism;
+    /**
+     * The number of threads loading the images of the urls and files ahead of the conversion.Default is 0, the images
+     * are loaded by the converters.
+     * <p>
+     * The loaded images are cached by the url or the path, see {@link ImagePrefetcher}.
+     */
+    private Integer imagePrefetchParallelism;
+    /**
+     * Bytes of the prefetched images kept in the cache.Null means the default of 64MB.
+     */
+    private Long imagePrefetchCacheBytes;
 
     /**
      * Used to cell style.
@@ -156,12 +190,31 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
      * Used to data format.
      */
     private Map<DataFormatData, Short> dataFormatMap;
+    /**
+     * The last cell style of every column, it is checked before {@link #cellStyleIndexMap} because the cells of a
+     * column mostly share the style.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Exclude
+    private volatile ColumnCellStyle[] columnCellStyles;
 
     /**
      * handler context
      */
     @Exclude
     private WorkbookWriteHandlerContext workbookWriteHandlerContext;
+    /**
+     * Loads the images ahead of the conversion, null if {@link #imagePrefetchParallelism} is 0
+     */
+    @Exclude
+    private ImagePrefetcher imagePrefetcher;
+    /**
+     * Converts the rows of all the writes of this workbook, null if {@link #convertParallelism} is 1. It is shut down
+     * when the workbook is finished.
+     */
+    @Exclude
+    private ExecutorService convertExecutorService;
 
     public WriteWorkbookHolder(WriteWorkbook writeWorkbook) {
         super(writeWorkbook, null);
@@ -240,9 +293,38 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         } else {
             this.writeExcelOnException = writeWorkbook.getWriteExcelOnException();
         }
-        this.cellStyleIndexMap = MapUtils.newHashMap();
-        this.fontMap = MapUtils.newHashMap();
-        this.dataFormatMap = MapUtils.newHashMap();
+        if (writeWorkbook.getUseTempFile() == null) {
+            this.useTempFile = Boolean.TRUE;
+        } else {
+            this.useTempFile = writeWorkbook.getUseTempFile();
+        }
+        if (writeWorkbook.getConvertParallelism() == null || writeWorkbook.getConvertParallelism() < 1) {
+            this.convertParallelism = 1;
+        } else {
+            this.convertParallelism = writeWorkbook.getConvertParallelism();
+        }
+        if (writeWorkbook.getImagePrefetchParallelism() == null || writeWorkbook.getImagePrefetchParallelism() < 1) {
+            this.imagePrefetchParallelism = 0;
+        } else {
+            this.imagePrefetchParallelism = writeWorkbook.getImagePrefetchParallelism();
+        }
+        this.imagePrefetchCacheBytes = writeWorkbook.getImagePrefetchCacheBytes();
+        // The styles can be created by the writers of different sheets at the same time
+        this.cellStyleIndexMap = new ConcurrentHashMap<>();
+        this.fontMap = new ConcurrentHashMap<>();
+        this.dataFormatMap = new ConcurrentHashMap<>();
+        this.columnCellStyles = new ColumnCellStyle[0];
+        if (imagePrefetchParallelism > 0) {
+            this.imagePrefetcher = new ImagePrefetcher(imagePrefetchParallelism, imagePrefetchCacheBytes);
+        }
+        if (convertParallelism > 1) {
+            this.convertExecutorService = Executors.newFixedThreadPool(convertParallelism, runnable -> {
+                Thread thread =
+                        new Thread(runnable, "fastexcel-row-converter-" + CONVERT_THREAD_NUMBER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
     }
 
     private void copyTemplate() throws IOException {
@@ -272,6 +354,46 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         return HolderEnum.WORKBOOK;
     }
 
+    /**
+     * create a cell style of a column.
+     * <p>
+     * The style is compared with the last style of the column first, so the cells of a column sharing the style do not
+     * need to be hashed.
+     *
+     * @param writeCellStyle
+     * @param originCellStyle
+     * @param cellDataType
+     * @param columnIndex
+     * @return
+     */
+    public CellStyle createCellStyle(
+            WriteCellStyle writeCellStyle,
+            CellStyle originCellStyle,
+            CellDataTypeEnum cellDataType,
+            Integer columnIndex) {
+        if (writeCellStyle == null || originCellStyle != null || columnIndex == null || columnIndex < 0) {
+            return createCellStyle(writeCellStyle, originCellStyle, cellDataType);
+        }
+        ColumnCellStyle[] currentColumnCellStyles = columnCellStyles;
+        if (columnIndex < currentColumnCellStyles.length) {
+            ColumnCellStyle columnCellStyle = currentColumnCellStyles[columnIndex];
+            if (columnCellStyle != null && columnCellStyle.writeCellStyle.equals(writeCellStyle)) {
+                return columnCellStyle.cellStyle;
+            }
+        }
+        CellStyle cellStyle = createCellStyle(writeCellStyle, null, cellDataType);
+        // Keep a copy, the style of the cell may still be changed
+        WriteCellStyle tempWriteCellStyle = new WriteCellStyle();
+        WriteCellStyle.merge(writeCellStyle, tempWriteCellStyle);
+        if (columnIndex >= currentColumnCellStyles.length) {
+            currentColumnCellStyles = Arrays.copyOf(
+                    currentColumnCellStyles, Math.max(columnIndex + 1, currentColumnCellStyles.length << 1));
+        }
+        currentColumnCellStyles[columnIndex] = new ColumnCellStyle(tempWriteCellStyle, cellStyle);
+        columnCellStyles = currentColumnCellStyles;
+        return cellStyle;
+    }
+
     /**
      * create a cell style.
      *
@@ -309,28 +431,38 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         }
 
         Map<WriteCellStyle, CellStyle> cellStyleMap =
-                cellStyleIndexMap.computeIfAbsent(styleIndex, key -> MapUtils.newHashMap());
+                cellStyleIndexMap.computeIfAbsent(styleIndex, key -> new ConcurrentHashMap<>());
         CellStyle cellStyle = cellStyleMap.get(writeCellStyle);
         if (cellStyle != null) {
             return cellStyle;
         }
-        if (log.isDebugEnabled()) {
-            log.info("create new style:{},{}", writeCellStyle, originCellStyle);
-        }
-        WriteCellStyle tempWriteCellStyle = new WriteCellStyle();
-        WriteCellStyle.merge(writeCellStyle, tempWriteCellStyle);
+        // The workbook is not thread safe
+        synchronized (workbook) {
+            cellStyle = cellStyleMap.get(writeCellStyle);
+            if (cellStyle != null) {
+                return cellStyle;
+            }
+            if (log.isDebugEnabled()) {
+                log.info("create new style:{},{}", writeCellStyle, originCellStyle);
+            }
+            WriteCellStyle tempWriteCellStyle = new WriteCellStyle();
+            WriteCellStyle.merge(writeCellStyle, tempWriteCellStyle);
 
-        cellStyle = StyleUtil.buildCellStyle(workbook, originCellStyle, tempWriteCellStyle);
-        Short dataFormat = createDataFormat(tempWriteCellStyle.getDataFormatData(), useCache);
-        if (dataFormat != null) {
-            cellStyle.setDataFormat(dataFormat);
-        }
-        Font font = createFont(tempWriteCellStyle.getWriteFont(), originFont, useCache);
-        if (font != null) {
-            cellStyle.setFont(font);
+            cellStyle = StyleUtil.buildCellStyle(workbook, originCellStyle, tempWriteCellStyle);
+            Short dataFormat = createDataFormat(tempWriteCellStyle.getDataFormatData(), useCache);
+            if (dataFormat != null) {
+                cellStyle.setDataFormat(dataFormat);
+            }
+            Font font = createFont(tempWriteCellStyle.getWriteFont(), originFont, useCache);
+            if (font != null) {
+                cellStyle.setFont(font);
+            }
+            // A csv workbook has no style, and a concurrent map takes no null
+            if (cellStyle != null) {
+                cellStyleMap.put(tempWriteCellStyle, cellStyle);
+            }
+            return cellStyle;
         }
-        cellStyleMap.put(tempWriteCellStyle, cellStyle);
-        return cellStyle;
     }
 
     /**
@@ -353,7 +485,9 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
             return font;
         }
         font = StyleUtil.buildFont(workbook, originFont, tempWriteFont);
-        fontMap.put(tempWriteFont, font);
+        if (font != null) {
+            fontMap.put(tempWriteFont, font);
+        }
         return font;
     }
 
@@ -379,7 +513,23 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
             return dataFormat;
         }
         dataFormat = StyleUtil.buildDataFormat(workbook, tempDataFormatData);
-        dataFormatMap.put(tempDataFormatData, dataFormat);
+        if (dataFormat != null) {
+            dataFormatMap.put(tempDataFormatData, dataFormat);
+        }
         return dataFormat;
     }
+
+    /**
+     * A cell style of a column, never changed after it is created.
+     */
+    private static class ColumnCellStyle {
+        private final WriteCellStyle writeCellStyle;
+
+        private final CellStyle cellStyle;
+
+        private ColumnCellStyle(WriteCellStyle writeCellStyle, CellStyle cellStyle) {
+            this.writeCellStyle = writeCellStyle;
+            this.cellStyle = cellStyle;
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package cn.idev.excel.write.style.column;
+
+import cn.idev.excel.enums.CellDataTypeEnum;
+import cn.idev.excel.metadata.data.WriteCellData;
+import cn.idev.excel.util.MapUtils;
+import cn.idev.excel.write.handler.SheetWriteHandler;
+import cn.idev.excel.write.handler.context.CellWriteHandlerContext;
+import cn.idev.excel.write.handler.context.SheetWriteHandlerContext;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * Take the width of the longest column as the width, like {@link LongestMatchColumnWidthStyleStrategy}, at a lower
+ * cost.
+ * <p>
+ * The width of a value is estimated from its characters, a character outside ascii counts twice, so the values are not
+ * encoded. The widths are kept in an array for every sheet and set to the sheet once after the data of a write is
+ * added. The content rows can be sampled, only the first {@code maxSampleRows} content rows of the sheet and every
+ * {@code sampleInterval}-th of them are measured, while the head is always measured.
+ *
+ *
+ */
+public class SampledColumnWidthStyleStrategy extends AbstractColumnWidthStyleStrategy implements SheetWriteHandler {
+
+    private static final int MAX_COLUMN_WIDTH = 255;
+    /**
+     * The content rows after it are not measured, a negative value measures all the rows
+     */
+    private final int maxSampleRows;
+    /**
+     * Measure every {@code sampleInterval}-th content row
+     */
+    private final int sampleInterval;
+
+    private final Map<Integer, SheetColumnWidth> cache = MapUtils.newHashMapWithExpectedSize(8);
+
+    /**
+     * Measure all the rows.
+     */
+    public SampledColumnWidthStyleStrategy() {
+        this(-1, 1);
+    }
+
+    /**
+     * @param maxSampleRows  the content rows after it are not measured, a negative value measures all the rows
+     * @param sampleInterval measure every {@code sampleInterval}-th content row
+     */
+    public SampledColumnWidthStyleStrategy(int maxSampleRows, int sampleInterval) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("The sample interval must be positive.");
+        }
+        this.maxSampleRows = maxSampleRows;
+        this.sampleInterval = sampleInterval;
+    }
+
+    @Override
+    protected void setColumnWidth(CellWriteHandlerContext context) {
+        SheetColumnWidth sheetColumnWidth = cache.computeIfAbsent(
+                context.getWriteSheetHolder().getSheetNo(), key -> new SheetColumnWidth());
+        boolean isHead = Boolean.TRUE.equals(context.getHead());
+        Cell cell = context.getCell();
+        if (!isHead && !sampled(sheetColumnWidth.contentRowNumber(cell.getRowIndex()))) {
+            return;
+        }
+        int columnWidth;
+        if (isHead) {
+            columnWidth = textWidth(cell.getStringCellValue());
+        } else {
+            WriteCellData<?> cellData = context.getFirstCellData();
+            if (cellData == null) {
+                return;
+            }
+            columnWidth = dataWidth(cellData);
+        }
+        if (columnWidth <= 0) {
+            return;
+        }
+        sheetColumnWidth.update(cell.getColumnIndex(), Math.min(columnWidth, MAX_COLUMN_WIDTH));
+    }
+
+    @Override
+    public void afterSheetDispose(SheetWriteHandlerContext context) {
+        SheetColumnWidth sheetColumnWidth = cache.get(context.getWriteSheetHolder().getSheetNo());
+        if (sheetColumnWidth != null) {
+            sheetColumnWidth.apply(context.getWriteSheetHolder().getSheet());
+        }
+    }
+
+    private boolean sampled(int contentRowNumber) {
+        if (maxSampleRows >= 0 && contentRowNumber >= maxSampleRows) {
+            return false;
+        }
+        return contentRowNumber % sampleInterval == 0;
+    }
+
+    private int dataWidth(WriteCellData<?> cellData) {
+        CellDataTypeEnum type = cellData.getType();
+        if (type == null) {
+            return -1;
+        }
+        switch (type) {
+            case STRING:
+                return textWidth(cellData.getStringValue());
+            case BOOLEAN:
+                return Boolean.TRUE.equals(cellData.getBooleanValue()) ? 4 : 5;
+            case NUMBER:
+                return numberWidth(cellData.getNumberValue());
+            default:
+                return -1;
+        }
+    }
+
+    private int textWidth(String text) {
+        if (text == null) {
+            return -1;
+        }
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += text.charAt(i) < 0x80 ? 1 : 2;
+        }
+        return width;
+    }
+
+    /**
+     * Length of {@link BigDecimal#toPlainString()} without building the string.
+     */
+    private int numberWidth(BigDecimal number) {
+        if (number == null) {
+            return -1;
+        }
+        int scale = number.scale();
+        int digits = scale < 0 ? number.precision() - scale : Math.max(number.precision(), scale + 1);
+        int width = scale > 0 ? digits + 1 : digits;
+        return number.signum() < 0 ? width + 1 : width;
+    }
+
+    /**
+     * Widths of the columns of a sheet.
+     */
+    private static class SheetColumnWidth {
+        private int[] widths = new int[16];
+        /**
+         * Content rows seen before the current one, counted over all the writes of the sheet
+         */
+        private int contentRowNumber = -1;
+
+        private int lastRowIndex = -1;
+        /**
+         * A width grew after the widths were set to the sheet
+         */
+        private boolean changed;
+
+        private int contentRowNumber(int rowIndex) {
+            if (rowIndex != lastRowIndex) {
+                lastRowIndex = rowIndex;
+                contentRowNumber++;
+            }
+            return contentRowNumber;
+        }
+
+        private void update(int columnIndex, int width) {
+            if (columnIndex >= widths.length) {
+                widths = Arrays.copyOf(widths, Math.max(columnIndex + 1, widths.length << 1));
+            }
+            if (width > widths[columnIndex]) {
+                widths[columnIndex] = width;
+                changed = true;
+            }
+        }
+
+        private void apply(Sheet sheet) {
+            if (!changed) {
+                return;
+            }
+            for (int i = 0; i < widths.length; i++) {
+                if (widths[i] > 0) {
+                    sheet.setColumnWidth(i, widths[i] * 256);
+                }
+            }
+            changed = false;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package cn.idev.excel.analysis.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for decoding a file mapped by small windows.
+ */
+class MappedFileReaderTest {
+
+    /**
+     * A 3 byte character and a surrogate pair cross the end of a window for every window size.
+     */
+    @Test
+    void read_shouldDecodeSequencesAcrossWindows(@TempDir Path tempDir) throws IOException {
+        String text = "abcd中efg😀hij中😀";
+        Path path = tempDir.resolve("window.csv");
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+        for (int windowSize = 4; windowSize <= 9; windowSize++) {
+            Assertions.assertEquals(text, read(path, windowSize, 64), "window size " + windowSize);
+            // The low surrogate goes to the next read
+            Assertions.assertEquals(text, read(path, windowSize, 1), "window size " + windowSize);
+        }
+    }
+
+    /**
+     * A malformed sequence at the end of a window is replaced like {@link java.io.InputStreamReader} does.
+     */
+    @Test
+    void read_shouldReplaceMalformedSequencesAcrossWindows(@TempDir Path tempDir) throws IOException {
+        byte[] bytes = {'a', 'b', 'c', (byte) 0xE4, (byte) 0xB8, 'd', (byte) 0xF0, (byte) 0x9F, (byte) 0x98, 'e'};
+        Path path = tempDir.resolve("malformed.csv");
+        Files.write(path, bytes);
+        String expected = new String(bytes, StandardCharsets.UTF_8);
+        for (int windowSize = 4; windowSize <= 9; windowSize++) {
+            Assertions.assertEquals(expected, read(path, windowSize, 64), "window size " + windowSize);
+        }
+    }
+
+    /**
+     * The windows are unmapped on close, so the file can be deleted on windows.
+     */
+    @Test
+    void close_shouldReleaseFile(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("close.csv");
+        Files.write(path, "a,b\n中,😀\n".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals("a,b\n中,😀\n", read(path, 4, 64));
+        Files.delete(path);
+        Assertions.assertFalse(Files.exists(path));
+    }
+
+    private String read(Path path, int windowSize, int readSize) throws IOException {
+        StringBuilder stringBuilder = new StringBuilder();
+        try (Reader reader = new MappedFileReader(path.toFile(), StandardCharsets.UTF_8, windowSize)) {
+            char[] chars = new char[readSize];
+            int count;
+            while ((count = reader.read(chars, 0, readSize)) != -1) {
+                stringBuilder.append(chars, 0, count);
+            }
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -2,10 +2,12 @@ package cn.idev.excel.cache;
 
 import cn.idev.excel.FastExcel;
 import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.cache.selector.SimpleReadCacheSelector;
 import cn.idev.excel.context.AnalysisContext;
 import cn.idev.excel.data.DemoData;
 import cn.idev.excel.enums.CacheLocationEnum;
 import cn.idev.excel.event.AnalysisEventListener;
+import cn.idev.excel.exception.ExcelAnalysisException;
 import cn.idev.excel.metadata.FieldCache;
 import cn.idev.excel.read.listener.PageReadListener;
 import cn.idev.excel.util.ClassUtils;
@@ -37,6 +39,7 @@ public class CacheDataTest {
     private static File fileCacheInvoke2;
     private static File fileCacheInvokeMemory;
     private static File fileCacheInvokeMemory2;
+    private static File fileMappedFileCache;
 
     @BeforeAll
     public static void init() {
@@ -45,6 +48,7 @@ public class CacheDataTest {
         fileCacheInvoke2 = TestFileUtil.createNewFile("cache/fileCacheInvoke2.xlsx");
         fileCacheInvokeMemory = TestFileUtil.createNewFile("cache/fileCacheInvokeMemory.xlsx");
         fileCacheInvokeMemory2 = TestFileUtil.createNewFile("cache/fileCacheInvokeMemory2.xlsx");
+        fileMappedFileCache = TestFileUtil.createNewFile("cache/fileMappedFileCache.xlsx");
     }
 
     @Test
@@ -174,6 +178,50 @@ public class CacheDataTest {
                 .doRead();
     }
 
+    @Test
+    public void t04MappedFileCache() {
+        MappedFileCache mappedFileCache = new MappedFileCache(32);
+        mappedFileCache.init(null);
+        for (int i = 0; i < 100; i++) {
+            mappedFileCache.put(i % 10 == 0 ? null : "姓名" + i);
+        }
+        Assertions.assertThrows(ExcelAnalysisException.class, () -> mappedFileCache.get(1));
+        mappedFileCache.putFinished();
+        try {
+            for (int i = 0; i < 100; i++) {
+                Assertions.assertEquals(i % 10 == 0 ? null : "姓名" + i, mappedFileCache.get(i));
+            }
+            Assertions.assertNull(mappedFileCache.get(100));
+            Assertions.assertNull(mappedFileCache.get(-1));
+        } finally {
+            mappedFileCache.destroy();
+        }
+    }
+
+    @Test
+    public void t05ReadWithMappedFileCache() {
+        FastExcel.write(fileMappedFileCache, CacheData.class)
+                .inMemory(Boolean.TRUE)
+                .sheet()
+                .doWrite(data());
+        List<CacheData> list = FastExcel.read(fileMappedFileCache)
+                .head(CacheData.class)
+                .readCache(new MappedFileCache())
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(data(), list);
+
+        SimpleReadCacheSelector simpleReadCacheSelector = new SimpleReadCacheSelector();
+        simpleReadCacheSelector.setMaxUseMapCacheSize(0L);
+        simpleReadCacheSelector.setUseMappedFileCache(Boolean.TRUE);
+        list = FastExcel.read(fileMappedFileCache)
+                .head(CacheData.class)
+                .readCacheSelector(simpleReadCacheSelector)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(data(), list);
+    }
+
     private List<CacheData> data() {
         List<CacheData> list = new ArrayList<CacheData>();
         for (int i = 0; i < 10; i++) {
@@ -10,6 +10,7 @@ import java.io.File;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -24,12 +25,14 @@ public class CellDataDataTest {
     private static File file07;
     private static File file03;
     private static File fileCsv;
+    private static File file07Reuse;
 
     @BeforeAll
     public static void init() {
         file07 = TestFileUtil.createNewFile("cellData07.xlsx");
         file03 = TestFileUtil.createNewFile("cellData03.xls");
         fileCsv = TestFileUtil.createNewFile("cellDataCsv.csv");
+        file07Reuse = TestFileUtil.createNewFile("cellDataReuse07.xlsx");
     }
 
     @Test
@@ -47,6 +50,43 @@ public class CellDataDataTest {
         readAndWrite(fileCsv);
     }
 
+    @Test
+    public void t04ReadAndWrite07ReuseCellData() throws Exception {
+        List<CellDataWriteData> data = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            CellDataWriteData cellDataData = new CellDataWriteData();
+            cellDataData.setDate(new WriteCellData<>(DateUtils.parseDate("2020-01-" + (10 + i) + " 01:01:01")));
+            WriteCellData<Integer> integer1 = new WriteCellData<>();
+            integer1.setType(CellDataTypeEnum.NUMBER);
+            integer1.setNumberValue(BigDecimal.valueOf(i));
+            cellDataData.setInteger1(integer1);
+            cellDataData.setInteger2(i * 10);
+            WriteCellData<?> formulaValue = new WriteCellData<>();
+            FormulaData formulaData = new FormulaData();
+            formulaValue.setFormulaData(formulaData);
+            formulaData.setFormulaValue("B" + (i + 2) + "+C" + (i + 2));
+            cellDataData.setFormulaValue(formulaValue);
+            data.add(cellDataData);
+        }
+        FastExcel.write(file07Reuse, CellDataWriteData.class).sheet().doWrite(data);
+
+        List<CellDataReadData> list = FastExcel.read(file07Reuse, CellDataReadData.class, null)
+                .reuseCellData(Boolean.TRUE)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            CellDataReadData cellDataData = list.get(i);
+            Assertions.assertEquals("2020年01月" + (10 + i) + "日", cellDataData.getDate().getData());
+            Assertions.assertEquals(i, (long) cellDataData.getInteger1().getData());
+            Assertions.assertEquals(0, BigDecimal.valueOf(i).compareTo(cellDataData.getInteger1().getNumberValue()));
+            Assertions.assertEquals(i * 10, (long) cellDataData.getInteger2());
+            Assertions.assertEquals(
+                    "B" + (i + 2) + "+C" + (i + 2),
+                    cellDataData.getFormulaValue().getFormulaData().getFormulaValue());
+        }
+    }
+
     private void readAndWrite(File file) throws Exception {
         FastExcel.write(file, CellDataWriteData.class).sheet().doWrite(data());
         FastExcel.read(file, CellDataReadData.class, new CellDataDataListener())
@@ -30,12 +30,17 @@ public class CharsetDataTest {
     private static File fileCsvGbk;
     private static File fileCsvUtf8;
     private static File fileCsvError;
+    private static File fileCsvUtf8Supplementary;
+    private static File fileCsvLatin1;
 
     @BeforeAll
     public static void init() {
         fileCsvGbk = TestFileUtil.createNewFile("charset" + File.separator + "fileCsvGbk.csv");
         fileCsvUtf8 = TestFileUtil.createNewFile("charset" + File.separator + "fileCsvUtf8.csv");
         fileCsvError = TestFileUtil.createNewFile("charset" + File.separator + "fileCsvError.csv");
+        fileCsvUtf8Supplementary =
+                TestFileUtil.createNewFile("charset" + File.separator + "fileCsvUtf8Supplementary.csv");
+        fileCsvLatin1 = TestFileUtil.createNewFile("charset" + File.separator + "fileCsvLatin1.csv");
     }
 
     @Test
@@ -70,6 +75,30 @@ public class CharsetDataTest {
                 .doRead();
     }
 
+    @Test
+    public void t03ReadAndWriteCsvMapped() {
+        readAndWriteName(fileCsvUtf8Supplementary, StandardCharsets.UTF_8, "姓名\uD83D\uDE00é");
+        readAndWriteName(fileCsvLatin1, StandardCharsets.ISO_8859_1, "Ñame é");
+    }
+
+    private void readAndWriteName(File file, Charset charset, String name) {
+        List<CharsetData> data = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            CharsetData charsetData = new CharsetData();
+            charsetData.setName(name + i);
+            charsetData.setAge(i);
+            data.add(charsetData);
+        }
+        FastExcel.write(file, CharsetData.class).charset(charset).sheet().doWrite(data);
+        // Read by index, the head can not be encoded by every charset
+        List<Map<Integer, String>> dataList = FastExcel.read(file).charset(charset).sheet().doReadSync();
+        Assertions.assertEquals(10, dataList.size());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(name + i, dataList.get(i).get(0));
+            Assertions.assertEquals(String.valueOf(i), dataList.get(i).get(1));
+        }
+    }
+
     private void readAndWrite(File file, Charset charset) {
         FastExcel.write(file, CharsetData.class).charset(charset).sheet().doWrite(data());
         FastExcel.read(file, CharsetData.class, new ReadListener<CharsetData>() {
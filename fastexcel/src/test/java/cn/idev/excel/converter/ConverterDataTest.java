@@ -5,12 +5,20 @@ import cn.idev.excel.metadata.data.WriteCellData;
 import cn.idev.excel.util.FileUtils;
 import cn.idev.excel.util.TestFileUtil;
 import cn.idev.excel.util.TestUtil;
+import com.sun.net.httpserver.HttpServer;
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -84,6 +92,43 @@ public class ConverterDataTest {
         writeImage(fileImage03);
     }
 
+    /**
+     * Test loading the images of the urls ahead, every url is loaded once
+     */
+    @Test
+    public void t23WriteUrlImagePrefetch07() throws Exception {
+        String imagePath = TestFileUtil.getPath() + "converter" + File.separator + "img.jpg";
+        byte[] image = FileUtils.readFileToByteArray(new File(imagePath));
+        AtomicInteger requestCount = new AtomicInteger();
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.createContext("/", exchange -> {
+            requestCount.incrementAndGet();
+            exchange.sendResponseHeaders(200, image.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(image);
+            }
+        });
+        httpServer.start();
+        try {
+            String baseUrl = "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/img";
+            List<List<Object>> list = new ArrayList<>();
+            for (int i = 0; i < 520; i++) {
+                list.add(Collections.singletonList(new URL(baseUrl + (i % 3) + ".jpg")));
+            }
+            FastExcel.write(fileImage07)
+                    .imagePrefetchParallelism(4)
+                    .imagePrefetchCacheBytes(1024L * 1024)
+                    .sheet()
+                    .doWrite(list);
+        } finally {
+            httpServer.stop(0);
+        }
+        Assertions.assertEquals(3, requestCount.get());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(fileImage07)) {
+            Assertions.assertEquals(520, workbook.getAllPictures().size());
+        }
+    }
+
     private void writeImage(File file) throws Exception {
         InputStream inputStream = null;
         try {
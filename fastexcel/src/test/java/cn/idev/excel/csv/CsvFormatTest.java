@@ -165,6 +165,24 @@ public class CsvFormatTest {
         }
     }
 
+    @Test
+    public void testParallel() {
+        csvFile = TestFileUtil.createNewFile(CSV_BASE + "csv-parallel.csv");
+        // Larger than a few chunks, with quotes and line breaks in the values
+        List<CsvData> writeDataList = dataList(200000, STRING_PREFIX + "\"quote\",\r\nline ");
+        FastExcel.write(csvFile, CsvData.class).csv().doWrite(writeDataList);
+
+        List<CsvData> dataList = FastExcel.read(csvFile)
+                .head(CsvData.class)
+                .csvParallelism(4)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(writeDataList.size(), dataList.size());
+        for (int i = 0; i < dataList.size(); i++) {
+            Assertions.assertEquals(writeDataList.get(i).getString(), dataList.get(i).getString());
+        }
+    }
+
     @Test
     public void writeWithCommonCsv() {
         csvFile = TestFileUtil.readFile(CSV_BASE + "write-common-csv.csv");
@@ -7,10 +7,14 @@ import cn.idev.excel.support.ExcelTypeEnum;
 import cn.idev.excel.util.TestFileUtil;
 import cn.idev.excel.write.builder.ExcelWriterBuilder;
 import java.io.File;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.poifs.crypt.EncryptionInfo;
+import org.apache.poi.poifs.crypt.EncryptionMode;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
@@ -30,6 +34,7 @@ public class EncryptDataTest {
     private static File file07OutputStream;
     private static File file03OutputStream;
     private static File fileCsvOutputStream;
+    private static File file07StreamingZip;
 
     @BeforeAll
     public static void init() {
@@ -39,6 +44,7 @@ public class EncryptDataTest {
         file07OutputStream = TestFileUtil.createNewFile("encryptOutputStream07.xlsx");
         file03OutputStream = TestFileUtil.createNewFile("encryptOutputStream03.xls");
         fileCsvOutputStream = TestFileUtil.createNewFile("encryptOutputStreamCsv.csv");
+        file07StreamingZip = TestFileUtil.createNewFile("encryptStreamingZip07.xlsx");
     }
 
     @Test
@@ -80,6 +86,32 @@ public class EncryptDataTest {
         readAndWrite(fileCsvOutputStream, ExcelTypeEnum.CSV, true, true);
     }
 
+    @Test
+    public void t04ReadAndWrite07StreamingZip() throws Exception {
+        FastExcel.write(file07StreamingZip, EncryptData.class).password(PASSWORD).sheet().doWrite(data());
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file07StreamingZip)) {
+            Assertions.assertEquals(EncryptionMode.agile, new EncryptionInfo(fileSystem).getEncryptionMode());
+        }
+
+        List<EncryptData> dataList = FastExcel.read(file07StreamingZip, EncryptData.class, new EncryptDataListener())
+                .password(PASSWORD)
+                .streamingZip(true)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(10, dataList.size());
+        Assertions.assertEquals("Name0", dataList.get(0).getName());
+
+        try (InputStream inputStream = Files.newInputStream(file07StreamingZip.toPath())) {
+            dataList = FastExcel.read(inputStream, EncryptData.class, new EncryptDataListener())
+                    .password(PASSWORD)
+                    .streamingZip(true)
+                    .sheet()
+                    .doReadSync();
+        }
+        Assertions.assertEquals(10, dataList.size());
+        Assertions.assertEquals("Name9", dataList.get(9).getName());
+    }
+
     private void readAndWrite(File file, ExcelTypeEnum excelType, boolean hasPassword, boolean isStream)
             throws Exception {
         log.info(
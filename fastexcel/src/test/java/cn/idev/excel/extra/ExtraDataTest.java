@@ -3,6 +3,7 @@ package cn.idev.excel.extra;
 import cn.idev.excel.FastExcel;
 import cn.idev.excel.context.AnalysisContext;
 import cn.idev.excel.enums.CellExtraTypeEnum;
+import cn.idev.excel.enums.XmlParserTypeEnum;
 import cn.idev.excel.metadata.CellExtra;
 import cn.idev.excel.read.listener.ReadListener;
 import cn.idev.excel.util.TestFileUtil;
@@ -73,6 +74,17 @@ public class ExtraDataTest {
                 .doRead();
     }
 
+    @Test
+    public void t04Read07Stax() {
+        FastExcel.read(file07, ExtraData.class, new ExtraDataListener())
+                .xmlParserType(XmlParserTypeEnum.STAX)
+                .extraRead(CellExtraTypeEnum.COMMENT)
+                .extraRead(CellExtraTypeEnum.HYPERLINK)
+                .extraRead(CellExtraTypeEnum.MERGE)
+                .sheet()
+                .doRead();
+    }
+
     private void read(File file) {
         FastExcel.read(file, ExtraData.class, new ExtraDataListener())
                 .extraRead(CellExtraTypeEnum.COMMENT)
@@ -48,6 +48,7 @@ public class FillDataTest {
     private static File compositeFillTemplate07;
     private static File fileComposite03;
     private static File compositeFillTemplate03;
+    private static File fileStreamingComplex07;
 
     @BeforeAll
     public static void init() {
@@ -73,6 +74,7 @@ public class FillDataTest {
         compositeFillTemplate07 = TestFileUtil.readFile("fill" + File.separator + "composite.xlsx");
         fileComposite03 = TestFileUtil.createNewFile("fileComposite03.xls");
         compositeFillTemplate03 = TestFileUtil.readFile("fill" + File.separator + "composite.xls");
+        fileStreamingComplex07 = TestFileUtil.createNewFile("fillStreamingComplex07.xlsx");
     }
 
     @Test
@@ -132,6 +134,15 @@ public class FillDataTest {
         compositeFill(fileComposite03, compositeFillTemplate03);
     }
 
+    @Test
+    public void t11StreamingComplexFill07() {
+        complexFill(fileStreamingComplex07, complexFillTemplate07, Boolean.TRUE);
+        List<Object> streamingList = FastExcel.read(fileStreamingComplex07).sheet().headRowNumber(3).doReadSync();
+        complexFill(fileComplex07, complexFillTemplate07);
+        List<Object> list = FastExcel.read(fileComplex07).sheet().headRowNumber(3).doReadSync();
+        Assertions.assertEquals(list, streamingList);
+    }
+
     private void byNameFill(File file, File template) {
         FillData fillData = new FillData();
         fillData.setName("Zhang San");
@@ -196,13 +207,17 @@ public class FillDataTest {
     }
 
     private void complexFill(File file, File template) {
+        complexFill(file, template, Boolean.FALSE);
+    }
+
+    private void complexFill(File file, File template, Boolean streaming) {
         try (ExcelWriter excelWriter =
                 FastExcel.write(file).withTemplate(template).build()) {
             WriteSheet writeSheet = FastExcel.writerSheet()
                     .registerWriteHandler(new LoopMergeStrategy(2, 0))
                     .build();
             FillConfig fillConfig =
-                    FillConfig.builder().forceNewRow(Boolean.TRUE).build();
+                    FillConfig.builder().forceNewRow(Boolean.TRUE).streaming(streaming).build();
             excelWriter.fill(data(), fillConfig, writeSheet);
             excelWriter.fill(data(), fillConfig, writeSheet);
             Map<String, Object> map = new HashMap<String, Object>();
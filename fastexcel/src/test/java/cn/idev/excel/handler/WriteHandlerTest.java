@@ -2,9 +2,13 @@ package cn.idev.excel.handler;
 
 import cn.idev.excel.FastExcel;
 import cn.idev.excel.util.TestFileUtil;
+import cn.idev.excel.write.handler.CellWriteHandler;
+import cn.idev.excel.write.handler.context.CellWriteHandlerContext;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -72,6 +76,26 @@ public class WriteHandlerTest {
         tableWrite(fileCsv);
     }
 
+    @Test
+    public void t31OnlyAfterCellDispose07() {
+        AtomicInteger contentCellCount = new AtomicInteger();
+        CellWriteHandler cellWriteHandler = new CellWriteHandler() {
+            @Override
+            public void afterCellDispose(CellWriteHandlerContext context) {
+                if (!context.getHead()) {
+                    Assertions.assertSame(context.getFirstCellData(), context.getCellDataList().get(0));
+                    contentCellCount.incrementAndGet();
+                }
+            }
+        };
+        FastExcel.write(file07)
+                .head(WriteHandlerData.class)
+                .registerWriteHandler(cellWriteHandler)
+                .sheet()
+                .doWrite(data());
+        Assertions.assertEquals(1, contentCellCount.get());
+    }
+
     private void workbookWrite(File file) {
         WriteHandler writeHandler = new WriteHandler();
         FastExcel.write(file)
@@ -1,11 +1,22 @@
 package cn.idev.excel.multiplesheets;
 
+import cn.idev.excel.ConcurrentExcelWriter;
 import cn.idev.excel.ExcelReader;
+import cn.idev.excel.ExcelWriter;
 import cn.idev.excel.FastExcel;
+import cn.idev.excel.exception.ExcelAnalysisException;
+import cn.idev.excel.exception.ExcelGenerateException;
+import cn.idev.excel.read.listener.PageReadListener;
 import cn.idev.excel.read.metadata.ReadSheet;
 import cn.idev.excel.util.TestFileUtil;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
@@ -20,11 +31,21 @@ public class MultipleSheetsDataTest {
 
     private static File file07;
     private static File file03;
+    private static File fileConcurrent07;
+    private static File fileSelected03;
+    private static File fileConcurrentInterrupted07;
+    private static File fileStreaming07;
+    private static File fileStreamingReordered07;
 
     @BeforeAll
     public static void init() {
         file07 = TestFileUtil.readFile("multiplesheets" + File.separator + "multiplesheets.xlsx");
         file03 = TestFileUtil.readFile("multiplesheets" + File.separator + "multiplesheets.xls");
+        fileConcurrent07 = TestFileUtil.createNewFile("multiplesheetsConcurrent07.xlsx");
+        fileSelected03 = TestFileUtil.createNewFile("multiplesheetsSelected03.xls");
+        fileConcurrentInterrupted07 = TestFileUtil.createNewFile("multiplesheetsConcurrentInterrupted07.xlsx");
+        fileStreaming07 = TestFileUtil.createNewFile("multiplesheetsStreaming07.xlsx");
+        fileStreamingReordered07 = TestFileUtil.createNewFile("multiplesheetsStreamingReordered07.xlsx");
     }
 
     @Test
@@ -47,6 +68,233 @@ public class MultipleSheetsDataTest {
         readAll(file03);
     }
 
+    @Test
+    public void t05Read07Parallel() {
+        List<List<MultipleSheetsData>> expected = new ArrayList<>();
+        try (ExcelReader excelReader = FastExcel.read(file07).build()) {
+            for (ReadSheet readSheet : excelReader.excelExecutor().sheetList()) {
+                List<MultipleSheetsData> list = new ArrayList<>();
+                excelReader.read(FastExcel.readSheet(readSheet.getSheetNo())
+                        .head(MultipleSheetsData.class)
+                        .registerReadListener(new PageReadListener<MultipleSheetsData>(list::addAll))
+                        .build());
+                expected.add(list);
+            }
+        }
+
+        List<List<MultipleSheetsData>> actual = new ArrayList<>();
+        try (ExcelReader excelReader = FastExcel.read(file07).parallelSheets(4).build()) {
+            List<ReadSheet> readSheetList = new ArrayList<>();
+            for (ReadSheet readSheet : excelReader.excelExecutor().sheetList()) {
+                List<MultipleSheetsData> list = new ArrayList<>();
+                actual.add(list);
+                readSheetList.add(FastExcel.readSheet(readSheet.getSheetNo())
+                        .head(MultipleSheetsData.class)
+                        .registerReadListener(new PageReadListener<MultipleSheetsData>(list::addAll))
+                        .build());
+            }
+            excelReader.read(readSheetList);
+        }
+        Assertions.assertEquals(6, expected.stream().mapToInt(List::size).sum());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void t06ConcurrentWrite07() throws Exception {
+        int sheetCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(sheetCount);
+        try (ConcurrentExcelWriter concurrentExcelWriter = new ConcurrentExcelWriter(
+                FastExcel.write(fileConcurrent07, MultipleSheetsData.class).build(), 2)) {
+            List<Future<?>> futureList = new ArrayList<>();
+            for (int i = 0; i < sheetCount; i++) {
+                ConcurrentExcelWriter.SheetWriter sheetWriter =
+                        concurrentExcelWriter.sheet(FastExcel.writerSheet(i, "sheet" + i).build());
+                int sheetNo = i;
+                futureList.add(executorService.submit(() -> {
+                    for (int j = 0; j < 10; j++) {
+                        sheetWriter.write(data(sheetNo, j * 100, 100));
+                    }
+                }));
+            }
+            for (Future<?> future : futureList) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        for (int i = 0; i < sheetCount; i++) {
+            List<MultipleSheetsData> list = FastExcel.read(fileConcurrent07)
+                    .head(MultipleSheetsData.class)
+                    .sheet(i)
+                    .doReadSync();
+            Assertions.assertEquals(data(i, 0, 1000), list);
+        }
+    }
+
+    /**
+     * Test reading some sheets of a xls file, the other sheets are jumped over
+     */
+    @Test
+    public void t07ReadSelectedSheets03() {
+        int sheetCount = 4;
+        try (ExcelWriter excelWriter = FastExcel.write(fileSelected03, MultipleSheetsData.class).build()) {
+            for (int i = 0; i < sheetCount; i++) {
+                excelWriter.write(data(i, 0, 300), FastExcel.writerSheet(i, "sheet" + i).build());
+            }
+        }
+        List<MultipleSheetsData> list = FastExcel.read(fileSelected03)
+                .head(MultipleSheetsData.class)
+                .sheet(2)
+                .doReadSync();
+        Assertions.assertEquals(data(2, 0, 300), list);
+        list = FastExcel.read(fileSelected03)
+                .head(MultipleSheetsData.class)
+                .sheet("sheet3")
+                .doReadSync();
+        Assertions.assertEquals(data(3, 0, 300), list);
+
+        List<MultipleSheetsData> firstList = new ArrayList<>();
+        List<MultipleSheetsData> secondList = new ArrayList<>();
+        try (ExcelReader excelReader = FastExcel.read(fileSelected03).build()) {
+            excelReader.read(
+                    FastExcel.readSheet(0)
+                            .head(MultipleSheetsData.class)
+                            .registerReadListener(new PageReadListener<MultipleSheetsData>(firstList::addAll))
+                            .build(),
+                    FastExcel.readSheet(2)
+                            .head(MultipleSheetsData.class)
+                            .registerReadListener(new PageReadListener<MultipleSheetsData>(secondList::addAll))
+                            .build());
+        }
+        Assertions.assertEquals(data(0, 0, 300), firstList);
+        Assertions.assertEquals(data(2, 0, 300), secondList);
+    }
+
+    /**
+     * Test listing the sheets and reading them one by one, the workbook globals are read once
+     */
+    @Test
+    public void t08ReadSheetListThenSheets03() {
+        List<MultipleSheetsData> lastList = new ArrayList<>();
+        List<MultipleSheetsData> secondList = new ArrayList<>();
+        try (ExcelReader excelReader = FastExcel.read(fileSelected03).build()) {
+            List<ReadSheet> sheets = excelReader.excelExecutor().sheetList();
+            Assertions.assertEquals(4, sheets.size());
+            Assertions.assertEquals("sheet3", sheets.get(3).getSheetName());
+            excelReader.read(FastExcel.readSheet(sheets.get(3).getSheetNo())
+                    .head(MultipleSheetsData.class)
+                    .registerReadListener(new PageReadListener<MultipleSheetsData>(lastList::addAll))
+                    .build());
+            excelReader.read(FastExcel.readSheet(sheets.get(1).getSheetName())
+                    .head(MultipleSheetsData.class)
+                    .registerReadListener(new PageReadListener<MultipleSheetsData>(secondList::addAll))
+                    .build());
+        }
+        Assertions.assertEquals(data(3, 0, 300), lastList);
+        Assertions.assertEquals(data(1, 0, 300), secondList);
+    }
+
+    /**
+     * Test reading all the sheets from an InputStream part by part, the sheets are in the zip in the order they are
+     * read
+     */
+    @Test
+    public void t09Read07AllStreamingZip() throws Exception {
+        writeSheets07(fileStreaming07, false);
+        List<List<MultipleSheetsData>> sheetDataList = readStreamingZip(fileStreaming07, 0, 1, 2, 3);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(data(i, 0, 300), sheetDataList.get(i));
+        }
+    }
+
+    /**
+     * Test closing the concurrent writer from an interrupted thread, the workbook is finished after the writing thread
+     * stopped
+     */
+    @Test
+    public void t10ConcurrentWriteCloseInterrupted07() {
+        ConcurrentExcelWriter concurrentExcelWriter = new ConcurrentExcelWriter(
+                FastExcel.write(fileConcurrentInterrupted07, MultipleSheetsData.class).build(), 2);
+        concurrentExcelWriter.sheet(FastExcel.writerSheet(0, "sheet0").build()).write(data(0, 0, 100));
+        Thread.currentThread().interrupt();
+        Assertions.assertThrows(ExcelGenerateException.class, concurrentExcelWriter::close);
+        Assertions.assertTrue(Thread.interrupted());
+        Assertions.assertTrue(fileConcurrentInterrupted07.length() > 0);
+    }
+
+    /**
+     * Test reading from an InputStream part by part when the first sheet is the last in the zip, the sheets coming
+     * before it are spooled and read afterwards
+     */
+    @Test
+    public void t11Read07AllStreamingZipSpooled() throws Exception {
+        writeSheets07(fileStreamingReordered07, true);
+        List<List<MultipleSheetsData>> sheetDataList = readStreamingZip(fileStreamingReordered07, 0, 1, 2, 3);
+        Assertions.assertEquals(data(3, 0, 300), sheetDataList.get(0));
+        Assertions.assertEquals(data(0, 0, 300), sheetDataList.get(1));
+        Assertions.assertEquals(data(1, 0, 300), sheetDataList.get(2));
+        Assertions.assertEquals(data(2, 0, 300), sheetDataList.get(3));
+    }
+
+    /**
+     * Test reading a sheet from an InputStream part by part after a later sheet was read, the zip is only read once
+     */
+    @Test
+    public void t12Read07StreamingZipPassedSheet() throws Exception {
+        writeSheets07(fileStreaming07, false);
+        List<MultipleSheetsData> list = new ArrayList<>();
+        try (FileInputStream fileInputStream = new FileInputStream(fileStreaming07);
+                ExcelReader excelReader = FastExcel.read(fileInputStream).streamingZip(true).build()) {
+            excelReader.read(FastExcel.readSheet(2)
+                    .head(MultipleSheetsData.class)
+                    .registerReadListener(new PageReadListener<MultipleSheetsData>(list::addAll))
+                    .build());
+            Assertions.assertEquals(data(2, 0, 300), list);
+            ExcelAnalysisException exception = Assertions.assertThrows(
+                    ExcelAnalysisException.class,
+                    () -> excelReader.read(FastExcel.readSheet(0)
+                            .head(MultipleSheetsData.class)
+                            .registerReadListener(new PageReadListener<MultipleSheetsData>(list::addAll))
+                            .build()));
+            Assertions.assertTrue(exception.getMessage().contains("has already been passed"));
+        }
+    }
+
+    /**
+     * Write 4 sheets of 300 rows, the parts of the sheets are in the zip in the order they are written.
+     *
+     * @param lastSheetFirst give the last sheet the first sheet number, its part stays the last in the zip
+     */
+    private void writeSheets07(File file, boolean lastSheetFirst) {
+        try (ExcelWriter excelWriter = FastExcel.write(file, MultipleSheetsData.class).build()) {
+            for (int i = 0; i < 4; i++) {
+                int sheetNo = lastSheetFirst ? (i + 1) % 4 : i;
+                excelWriter.write(data(i, 0, 300), FastExcel.writerSheet(sheetNo, "sheet" + i).build());
+            }
+        }
+    }
+
+    /**
+     * Read the sheets in one read from an InputStream part by part, the rows of each sheet in its own list.
+     */
+    private List<List<MultipleSheetsData>> readStreamingZip(File file, int... sheetNos) throws IOException {
+        List<List<MultipleSheetsData>> sheetDataList = new ArrayList<>();
+        List<ReadSheet> readSheetList = new ArrayList<>();
+        for (int sheetNo : sheetNos) {
+            List<MultipleSheetsData> list = new ArrayList<>();
+            sheetDataList.add(list);
+            readSheetList.add(FastExcel.readSheet(sheetNo)
+                    .head(MultipleSheetsData.class)
+                    .registerReadListener(new PageReadListener<MultipleSheetsData>(list::addAll))
+                    .build());
+        }
+        try (FileInputStream fileInputStream = new FileInputStream(file);
+                ExcelReader excelReader = FastExcel.read(fileInputStream).streamingZip(true).build()) {
+            excelReader.read(readSheetList);
+        }
+        return sheetDataList;
+    }
+
     private void read(File file) {
         MultipleSheetsListener multipleSheetsListener = new MultipleSheetsListener();
         try (ExcelReader excelReader = FastExcel.read(file, MultipleSheetsData.class, multipleSheetsListener)
@@ -65,4 +313,14 @@ public class MultipleSheetsDataTest {
         FastExcel.read(file, MultipleSheetsData.class, new MultipleSheetsListener())
                 .doReadAll();
     }
+
+    private List<MultipleSheetsData> data(int sheetNo, int start, int count) {
+        List<MultipleSheetsData> list = new ArrayList<>();
+        for (int i = start; i < start + count; i++) {
+            MultipleSheetsData multipleSheetsData = new MultipleSheetsData();
+            multipleSheetsData.setTitle("sheet" + sheetNo + "-" + i);
+            list.add(multipleSheetsData);
+        }
+        return list;
+    }
 }
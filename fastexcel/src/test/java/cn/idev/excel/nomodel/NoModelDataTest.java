@@ -1,13 +1,17 @@
 package cn.idev.excel.nomodel;
 
+import cn.idev.excel.ExcelWriter;
 import cn.idev.excel.FastExcel;
 import cn.idev.excel.enums.ReadDefaultReturnEnum;
 import cn.idev.excel.metadata.data.ReadCellData;
 import cn.idev.excel.util.DateUtils;
 import cn.idev.excel.util.TestFileUtil;
+import cn.idev.excel.write.metadata.ColumnBatch;
+import cn.idev.excel.write.metadata.WriteSheet;
 import com.alibaba.fastjson2.JSON;
 import java.io.File;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +36,7 @@ public class NoModelDataTest {
     private static File fileRepeat07;
     private static File fileRepeat03;
     private static File fileRepeatCsv;
+    private static File fileColumns07;
 
     @BeforeAll
     public static void init() {
@@ -41,6 +46,7 @@ public class NoModelDataTest {
         fileRepeat07 = TestFileUtil.createNewFile("noModelRepeat07.xlsx");
         fileRepeat03 = TestFileUtil.createNewFile("noModelRepeat03.xls");
         fileRepeatCsv = TestFileUtil.createNewFile("noModelRepeatCsv.csv");
+        fileColumns07 = TestFileUtil.createNewFile("noModelColumns07.xlsx");
     }
 
     @Test
@@ -58,6 +64,45 @@ public class NoModelDataTest {
         readAndWrite(fileCsv, fileRepeatCsv, true);
     }
 
+    @Test
+    public void t04WriteColumns07() {
+        int rowCount = 10;
+        String[] strings = new String[rowCount];
+        double[] doubles = new double[rowCount];
+        long[] longs = new long[rowCount];
+        LocalDate[] dates = new LocalDate[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            strings[i] = "string1" + i;
+            doubles[i] = i + 0.5;
+            longs[i] = 100L + i;
+            dates[i] = LocalDate.of(2020, 1, 1 + i);
+        }
+        strings[3] = null;
+        ColumnBatch columnBatch = new ColumnBatch(rowCount)
+                .addColumn(strings)
+                .addColumn(doubles)
+                .addColumn(longs)
+                .addColumn(dates);
+        try (ExcelWriter excelWriter = FastExcel.write(fileColumns07).build()) {
+            WriteSheet writeSheet = FastExcel.writerSheet().build();
+            excelWriter.writeColumns(columnBatch, writeSheet);
+            excelWriter.writeColumns(columnBatch, writeSheet);
+        }
+
+        List<Map<Integer, Object>> actualDataList = FastExcel.read(fileColumns07)
+                .headRowNumber(0)
+                .readDefaultReturn(ReadDefaultReturnEnum.ACTUAL_DATA)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(rowCount * 2, actualDataList.size());
+        Map<Integer, Object> actualData19 = actualDataList.get(19);
+        Assertions.assertEquals("string19", actualData19.get(0));
+        Assertions.assertEquals(0, new BigDecimal("9.5").compareTo((BigDecimal) actualData19.get(1)));
+        Assertions.assertEquals(0, new BigDecimal("109").compareTo((BigDecimal) actualData19.get(2)));
+        Assertions.assertEquals(LocalDateTime.of(2020, 1, 10, 0, 0), actualData19.get(3));
+        Assertions.assertNull(actualDataList.get(3).get(0));
+    }
+
     private void readAndWrite(File file, File fileRepeat, boolean isCsv) throws Exception {
         FastExcel.write(file).sheet().doWrite(data());
         List<Map<Integer, String>> result =
@@ -1,15 +1,24 @@
 package cn.idev.excel.simple;
 
+import cn.idev.excel.ExcelWriter;
 import cn.idev.excel.FastExcel;
+import cn.idev.excel.enums.XmlParserTypeEnum;
+import cn.idev.excel.read.listener.AsyncPageReadListener;
 import cn.idev.excel.read.listener.PageReadListener;
+import cn.idev.excel.read.listener.StreamReadListener;
 import cn.idev.excel.support.ExcelTypeEnum;
 import cn.idev.excel.util.TestFileUtil;
+import cn.idev.excel.write.metadata.WriteSheet;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -85,6 +94,71 @@ public class SimpleDataTest {
         readAndWriteInputStream(fileCsv, ExcelTypeEnum.CSV);
     }
 
+    /**
+     * Test reading Excel 2007 format with the pull parser
+     */
+    @Test
+    public void t07ReadAndWrite07Stax() {
+        FastExcel.write(file07, SimpleData.class).sheet().doWrite(data());
+        FastExcel.read(file07, SimpleData.class, new SimpleDataListener())
+                .xmlParserType(XmlParserTypeEnum.STAX)
+                .sheet()
+                .doRead();
+    }
+
+    /**
+     * Test writing Excel 2007 format without temporary files
+     */
+    @Test
+    public void t08ReadAndWrite07WithoutTempFile() {
+        FastExcel.write(file07, SimpleData.class).useTempFile(false).sheet().doWrite(data());
+        FastExcel.read(file07, SimpleData.class, new SimpleDataListener()).sheet().doRead();
+    }
+
+    /**
+     * Test converting the rows on several threads, the rows keep their order
+     */
+    @Test
+    public void t09ReadAndWrite07ConvertParallelism() {
+        List<SimpleData> list = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            SimpleData simpleData = new SimpleData();
+            simpleData.setName("姓名" + i);
+            list.add(simpleData);
+        }
+        // A null row leaves an empty row
+        list.set(1000, null);
+        FastExcel.write(file07, SimpleData.class).convertParallelism(4).sheet().doWrite(list);
+
+        List<SimpleData> readList = FastExcel.read(file07)
+                .head(SimpleData.class)
+                .ignoreEmptyRow(false)
+                .sheet()
+                .doReadSync();
+        Assertions.assertEquals(2000, readList.size());
+        for (int i = 0; i < 2000; i++) {
+            if (i == 1000) {
+                Assertions.assertNull(readList.get(i).getName());
+            } else {
+                Assertions.assertEquals("姓名" + i, readList.get(i).getName());
+            }
+        }
+    }
+
+    /**
+     * Test reading Excel 2007 format from an InputStream part by part, without a temporary copy of the file
+     */
+    @Test
+    public void t10ReadAndWrite07StreamingZip() throws Exception {
+        FastExcel.write(file07, SimpleData.class).sheet().doWrite(data());
+        try (FileInputStream fileInputStream = new FileInputStream(file07)) {
+            FastExcel.read(fileInputStream, SimpleData.class, new SimpleDataListener())
+                    .streamingZip(true)
+                    .sheet()
+                    .doRead();
+        }
+    }
+
     /**
      * Test simple read/write with InputStream/OutputStream
      *
@@ -176,6 +250,125 @@ public class SimpleDataTest {
                 .doRead();
     }
 
+    /**
+     * Test page reading with AsyncPageReadListener
+     * <p>
+     * The pages are consumed on other threads in the order they were read. {@link AsyncPageReadListener#invoke}
+     * </p>
+     */
+    @Test
+    public void t24AsyncPageReadListener07() {
+        FastExcel.write(file07, SimpleData.class).sheet().doWrite(data());
+        List<SimpleData> list = new ArrayList<>();
+        FastExcel.read(file07, SimpleData.class, new AsyncPageReadListener<SimpleData>(list::addAll, 3, 2, true))
+                .sheet()
+                .doRead();
+        Assertions.assertEquals(10, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Assertions.assertEquals("姓名" + i, list.get(i).getName());
+        }
+
+        // A failed consumer stops the read
+        AsyncPageReadListener<SimpleData> failedListener = new AsyncPageReadListener<>(
+                dataList -> {
+                    throw new IllegalStateException("consume failed");
+                },
+                1,
+                1,
+                true);
+        Assertions.assertThrows(
+                RuntimeException.class,
+                () -> FastExcel.read(file07, SimpleData.class, failedListener)
+                        .sheet()
+                        .doRead());
+    }
+
+    /**
+     * Test reading the rows lazily with a stream
+     */
+    @Test
+    public void t25Stream07() {
+        stream(file07);
+    }
+
+    @Test
+    public void t26StreamCsv() {
+        stream(fileCsv);
+    }
+
+    /**
+     * Test stopping the read by closing the iterator
+     */
+    @Test
+    public void t27IteratorClose07() {
+        FastExcel.write(file07, SimpleData.class).sheet().doWrite(data());
+        try (StreamReadListener<SimpleData> iterator =
+                FastExcel.read(file07).head(SimpleData.class).sheet().iterator()) {
+            Assertions.assertTrue(iterator.hasNext());
+            Assertions.assertEquals("姓名0", iterator.next().getName());
+        }
+    }
+
+    /**
+     * Test reading ahead of the iterator by one row only
+     */
+    @Test
+    public void t28IteratorCapacity07() {
+        FastExcel.write(file07, SimpleData.class).sheet().doWrite(data());
+        List<String> nameList = new ArrayList<>();
+        try (StreamReadListener<SimpleData> iterator =
+                FastExcel.read(file07).head(SimpleData.class).sheet().iterator(1)) {
+            iterator.forEachRemaining(data -> nameList.add(data.getName()));
+        }
+        Assertions.assertEquals(10, nameList.size());
+        Assertions.assertEquals("姓名9", nameList.get(9));
+    }
+
+    /**
+     * Test several writes of one writer sharing the converting pool, which is shut down when the writer is finished
+     */
+    @Test
+    public void t29WriteSeveralTimes07ConvertParallelism() {
+        ExecutorService convertExecutorService;
+        try (ExcelWriter excelWriter = FastExcel.write(file07, SimpleData.class).convertParallelism(4).build()) {
+            WriteSheet writeSheet = FastExcel.writerSheet().build();
+            convertExecutorService = excelWriter.writeContext().writeWorkbookHolder().getConvertExecutorService();
+            Assertions.assertNotNull(convertExecutorService);
+            for (int i = 0; i < 3; i++) {
+                List<SimpleData> list = new ArrayList<>();
+                for (int j = 0; j < 1000; j++) {
+                    SimpleData simpleData = new SimpleData();
+                    simpleData.setName("姓名" + (i * 1000 + j));
+                    list.add(simpleData);
+                }
+                excelWriter.write(list, writeSheet);
+                Assertions.assertSame(
+                        convertExecutorService,
+                        excelWriter.writeContext().writeWorkbookHolder().getConvertExecutorService());
+                Assertions.assertFalse(convertExecutorService.isShutdown());
+            }
+        }
+        Assertions.assertTrue(convertExecutorService.isShutdown());
+
+        List<SimpleData> readList = FastExcel.read(file07).head(SimpleData.class).sheet().doReadSync();
+        Assertions.assertEquals(3000, readList.size());
+        for (int i = 0; i < 3000; i++) {
+            Assertions.assertEquals("姓名" + i, readList.get(i).getName());
+        }
+    }
+
+    private void stream(File file) {
+        FastExcel.write(file, SimpleData.class).sheet().doWrite(data());
+        try (Stream<SimpleData> stream =
+                FastExcel.read(file).head(SimpleData.class).sheet().stream()) {
+            List<String> nameList = stream.filter(data -> !data.getName().endsWith("0"))
+                    .map(SimpleData::getName)
+                    .limit(3)
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(Arrays.asList("姓名1", "姓名2", "姓名3"), nameList);
+        }
+    }
+
     /**
      * Synchronous reading of Excel files
      * <p>
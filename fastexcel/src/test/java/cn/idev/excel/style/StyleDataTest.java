@@ -1,5 +1,6 @@
 package cn.idev.excel.style;
 
+import cn.idev.excel.ExcelWriter;
 import cn.idev.excel.FastExcel;
 import cn.idev.excel.annotation.write.style.HeadFontStyle;
 import cn.idev.excel.annotation.write.style.HeadStyle;
@@ -11,10 +12,12 @@ import cn.idev.excel.util.StyleTestUtils;
 import cn.idev.excel.util.TestFileUtil;
 import cn.idev.excel.write.merge.LoopMergeStrategy;
 import cn.idev.excel.write.merge.OnceAbsoluteMergeStrategy;
+import cn.idev.excel.write.metadata.WriteSheet;
 import cn.idev.excel.write.metadata.style.WriteCellStyle;
 import cn.idev.excel.write.metadata.style.WriteFont;
 import cn.idev.excel.write.style.AbstractVerticalCellStyleStrategy;
 import cn.idev.excel.write.style.HorizontalCellStyleStrategy;
+import cn.idev.excel.write.style.column.SampledColumnWidthStyleStrategy;
 import cn.idev.excel.write.style.column.SimpleColumnWidthStyleStrategy;
 import cn.idev.excel.write.style.row.SimpleRowHeightStyleStrategy;
 import java.io.File;
@@ -48,6 +51,8 @@ public class StyleDataTest {
     private static File fileVerticalCellStyleStrategy07;
     private static File fileVerticalCellStyleStrategy207;
     private static File fileLoopMergeStrategy;
+    private static File fileAlternateStyle07;
+    private static File fileSampledColumnWidth07;
 
     @BeforeAll
     public static void init() {
@@ -56,6 +61,8 @@ public class StyleDataTest {
         fileVerticalCellStyleStrategy07 = TestFileUtil.createNewFile("verticalCellStyle.xlsx");
         fileVerticalCellStyleStrategy207 = TestFileUtil.createNewFile("verticalCellStyle2.xlsx");
         fileLoopMergeStrategy = TestFileUtil.createNewFile("loopMergeStrategy.xlsx");
+        fileAlternateStyle07 = TestFileUtil.createNewFile("alternateStyle.xlsx");
+        fileSampledColumnWidth07 = TestFileUtil.createNewFile("sampledColumnWidth.xlsx");
     }
 
     @Test
@@ -180,6 +187,60 @@ public class StyleDataTest {
                 .doWrite(data10());
     }
 
+    @Test
+    public void t06AlternateContentStyle() throws Exception {
+        WriteCellStyle yellowWriteCellStyle = new WriteCellStyle();
+        yellowWriteCellStyle.setFillPatternType(FillPatternType.SOLID_FOREGROUND);
+        yellowWriteCellStyle.setFillForegroundColor(IndexedColors.YELLOW.getIndex());
+        WriteCellStyle tealWriteCellStyle = new WriteCellStyle();
+        tealWriteCellStyle.setFillPatternType(FillPatternType.SOLID_FOREGROUND);
+        tealWriteCellStyle.setFillForegroundColor(IndexedColors.TEAL.getIndex());
+        List<WriteCellStyle> contentWriteCellStyleList = new ArrayList<>();
+        contentWriteCellStyleList.add(yellowWriteCellStyle);
+        contentWriteCellStyleList.add(tealWriteCellStyle);
+        FastExcel.write(fileAlternateStyle07, StyleData.class)
+                .registerWriteHandler(new HorizontalCellStyleStrategy(new WriteCellStyle(), contentWriteCellStyleList))
+                .sheet()
+                .doWrite(data10());
+
+        try (Workbook workbook = WorkbookFactory.create(fileAlternateStyle07)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int i = 1; i <= 10; i++) {
+                Row row = sheet.getRow(i);
+                byte[] color = i % 2 == 1 ? new byte[] {-1, -1, 0} : new byte[] {0, -128, -128};
+                for (int j = 0; j < 2; j++) {
+                    Cell cell = row.getCell(j);
+                    Assertions.assertArrayEquals(color, StyleTestUtils.getFillForegroundColor(cell));
+                    // The rows with the same style share the cell style
+                    Assertions.assertEquals(
+                            sheet.getRow(i % 2 == 1 ? 1 : 2).getCell(j).getCellStyle().getIndex(),
+                            cell.getCellStyle().getIndex());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void t07SampledColumnWidthStyleStrategy() throws Exception {
+        List<StyleData> list = data10();
+        list.get(1).setString("a long string in the sampled row");
+        list.get(5).setString("a longer string that is not in the sampled rows");
+        try (ExcelWriter excelWriter = FastExcel.write(fileSampledColumnWidth07, StyleData.class)
+                .registerWriteHandler(new SampledColumnWidthStyleStrategy(4, 1))
+                .build()) {
+            WriteSheet writeSheet = FastExcel.writerSheet().build();
+            excelWriter.write(list.subList(0, 3), writeSheet);
+            excelWriter.write(list.subList(3, 10), writeSheet);
+        }
+
+        try (Workbook workbook = WorkbookFactory.create(fileSampledColumnWidth07)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Assertions.assertEquals("a long string in the sampled row".length() * 256, sheet.getColumnWidth(0));
+            // "字符串01" counts the chinese characters twice
+            Assertions.assertEquals(8 * 256, sheet.getColumnWidth(1));
+        }
+    }
+
     private void readAndWrite(File file) throws Exception {
         SimpleColumnWidthStyleStrategy simpleColumnWidthStyleStrategy = new SimpleColumnWidthStyleStrategy(50);
         SimpleRowHeightStyleStrategy simpleRowHeightStyleStrategy =